@@ -46,6 +46,7 @@ public class Attribute<T> implements IAttribute<T> {
     private BiPredicate<IAttributable, T> validator;
     private Function<IAttributable, T> defaultValueFunction;
     private Function<T, T> copyValueFunction = t -> t;
+    private int index = -1;
 
     /**
      * Constructs a new attribute with the {@link Name#DEFAULT_NAMESPACE default name space}.
@@ -53,7 +54,7 @@ public class Attribute<T> implements IAttribute<T> {
      * @param type the class object of the attribute type
      */
     Attribute(String name, Class<T> type) {
-        this(new Name(name), type);
+        this(Name.of(name), type);
     }
 
     /**
@@ -106,6 +107,19 @@ public class Attribute<T> implements IAttribute<T> {
         return type.getClassType();
     }
 
+    /**
+     * {@return this attribute's dense index, which is assigned when it is registered in {@link Attributes}, or -1 if
+     * it is not registered}
+     * Allows {@link AttributeStore} to store attribute values without hashing.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
     /**
      * {@return this attribute's default value function}
      */
@@ -216,7 +230,7 @@ public class Attribute<T> implements IAttribute<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return name.hashCode();
     }
 
     @Override
@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Stores attribute values of a single {@link IAttributable} without hashing.
+ * Values of attributes registered in {@link Attributes} are kept in a compact array that is sorted by the
+ * attributes' {@link Attribute#getIndex() dense indices}, so looking up a value is a binary search over a few
+ * integers.
+ * Compared to a {@link LinkedHashMap}, this avoids one entry object per attribute value and the hash table,
+ * which saves most of the memory for large trees of annotated objects.
+ * Values of other attributes are kept in a separate map, which is only created if needed.
+ * <p>
+ * Implements {@link Map}, so it can be returned by {@link IAttributable#getAttributes()}.
+ * Iteration follows the registration order of the attributes instead of the insertion order of the values.
+ * Values must not be {@code null}.
+ */
+public class AttributeStore extends AbstractMap<IAttribute<?>, Object> {
+
+    private static final int[] EMPTY_INDICES = {};
+    private static final Object[] EMPTY_VALUES = {};
+
+    private int[] indices;
+    private Object[] values;
+    private int size;
+    private LinkedHashMap<IAttribute<?>, Object> otherValues;
+
+    /**
+     * Creates an empty store.
+     */
+    public AttributeStore() {
+        indices = EMPTY_INDICES;
+        values = EMPTY_VALUES;
+    }
+
+    /**
+     * Creates an empty store that can hold the given number of values of registered attributes without resizing.
+     *
+     * @param capacity the initial capacity
+     */
+    public AttributeStore(int capacity) {
+        indices = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    /**
+     * Creates a store containing the given attribute values.
+     *
+     * @param attributes the attribute values
+     */
+    public AttributeStore(Map<? extends IAttribute<?>, ?> attributes) {
+        this(attributes.size());
+        putAll(attributes);
+    }
+
+    /**
+     * Copy constructor.
+     * The values are not copied.
+     *
+     * @param other the store to copy
+     */
+    public AttributeStore(AttributeStore other) {
+        indices = Arrays.copyOf(other.indices, other.size);
+        values = Arrays.copyOf(other.values, other.size);
+        size = other.size;
+        otherValues = other.otherValues == null ? null : new LinkedHashMap<>(other.otherValues);
+    }
+
+    /**
+     * {@return a new store containing copies of all values of this store}
+     * Values are copied with the {@link Attribute#getCopyValueFunction() copy function} of their attribute.
+     *
+     * @param attributable the attributable object that owns this store
+     */
+    public AttributeStore copy(IAttributable attributable) {
+        final AttributeStore copy = new AttributeStore(this);
+        for (int i = 0; i < size; i++) {
+            copy.values[i] = copyValue(Attributes.getAttribute(indices[i]), values[i]);
+        }
+        if (otherValues != null) {
+            copy.otherValues.replaceAll((attribute, value) -> {
+                final Object copiedValue = attribute.copyValue(attributable).orElse(null);
+                return copiedValue != null ? copiedValue : value;
+            });
+        }
+        return copy;
+    }
+
+    private static <T> Object copyValue(Attribute<T> attribute, Object value) {
+        final Function<T, T> copyValueFunction = attribute.getCopyValueFunction().orElse(null);
+        return copyValueFunction == null ? value : copyValueFunction.apply(attribute.getClassType().cast(value));
+    }
+
+    private int find(int index) {
+        return Arrays.binarySearch(indices, 0, size, index);
+    }
+
+    /**
+     * {@return the value of the given attribute, or {@code null} if it has no value in this store}
+     * Does not consider default values.
+     *
+     * @param <T> the type of the attribute
+     * @param attribute the attribute
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(Attribute<T> attribute) {
+        return (T) get(attribute);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof IAttribute)) {
+            return null;
+        }
+        final int index = Attributes.getIndex((IAttribute<?>) key);
+        if (index < 0) {
+            return otherValues == null ? null : otherValues.get(key);
+        }
+        final int position = find(index);
+        return position >= 0 ? values[position] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Object put(IAttribute<?> key, Object value) {
+        Objects.requireNonNull(value);
+        final int index = Attributes.getIndex(key);
+        if (index < 0) {
+            if (otherValues == null) {
+                otherValues = new LinkedHashMap<>(4);
+            }
+            return otherValues.put(key, value);
+        }
+        int position = find(index);
+        if (position >= 0) {
+            final Object oldValue = values[position];
+            values[position] = value;
+            return oldValue;
+        }
+        position = -position - 1;
+        if (size == indices.length) {
+            final int newCapacity = Math.max(2, size + (size >> 1) + 1);
+            indices = Arrays.copyOf(indices, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        System.arraycopy(indices, position, indices, position + 1, size - position);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        indices[position] = index;
+        values[position] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof IAttribute)) {
+            return null;
+        }
+        final int index = Attributes.getIndex((IAttribute<?>) key);
+        if (index < 0) {
+            return otherValues == null ? null : otherValues.remove(key);
+        }
+        final int position = find(index);
+        return position >= 0 ? removeAt(position) : null;
+    }
+
+    private Object removeAt(int position) {
+        final Object oldValue = values[position];
+        size--;
+        System.arraycopy(indices, position + 1, indices, position, size - position);
+        System.arraycopy(values, position + 1, values, position, size - position);
+        values[size] = null;
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        otherValues = null;
+    }
+
+    @Override
+    public int size() {
+        return size + (otherValues == null ? 0 : otherValues.size());
+    }
+
+    /**
+     * Reduces the memory used by this store to the minimum.
+     */
+    public void trimToSize() {
+        indices = size == 0 ? EMPTY_INDICES : Arrays.copyOf(indices, size);
+        values = size == 0 ? EMPTY_VALUES : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Set<Entry<IAttribute<?>, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<IAttribute<?>, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return AttributeStore.this.size();
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<IAttribute<?>, Object>> {
+        private int position;
+        private boolean removable;
+        private Iterator<Entry<IAttribute<?>, Object>> otherIterator;
+
+        @Override
+        public boolean hasNext() {
+            return position < size || (otherValues != null && otherIterator().hasNext());
+        }
+
+        private Iterator<Entry<IAttribute<?>, Object>> otherIterator() {
+            if (otherIterator == null) {
+                otherIterator = otherValues.entrySet().iterator();
+            }
+            return otherIterator;
+        }
+
+        @Override
+        public Entry<IAttribute<?>, Object> next() {
+            if (position < size) {
+                removable = true;
+                final int current = position++;
+                return new SimpleImmutableEntry<>(Attributes.getAttribute(indices[current]), values[current]);
+            }
+            if (otherValues == null) {
+                throw new NoSuchElementException();
+            }
+            removable = false;
+            return otherIterator().next();
+        }
+
+        @Override
+        public void remove() {
+            if (removable) {
+                removeAt(--position);
+                removable = false;
+            } else if (otherIterator != null) {
+                otherIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
@@ -0,0 +1,733 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import de.featjar.base.data.identifier.IIdentifiable;
+import de.featjar.base.data.identifier.IIdentifier;
+import de.featjar.base.data.type.BooleanType;
+import de.featjar.base.data.type.DoubleType;
+import de.featjar.base.data.type.IntegerType;
+import de.featjar.base.data.type.LongType;
+import de.featjar.base.io.csv.CSVFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Stores the values of some attributes for many objects in columns, with one row per object identifier.
+ * Values of {@link IntegerType integer}, {@link LongType long}, {@link DoubleType double}, and {@link BooleanType
+ * boolean} attributes are stored in primitive arrays, so scans and aggregates over a single attribute run in tight
+ * loops without {@link Result} wrappers, boxing, or attribute lookups.
+ * Values of other attributes are stored as objects.
+ * Each cell may be empty, which is tracked per column.
+ * <p>
+ * A table is filled from {@link IAttributable} objects with {@link #addAll(Iterable)} or cell by cell, and can be
+ * exported with {@link #writeCSV(CSVFile)}.
+ * A table is a snapshot, it is not updated when attribute values of the objects change.
+ */
+public class AttributeTable {
+
+    private abstract static class Column {
+        final Attribute<?> attribute;
+        final BitSet present = new BitSet();
+
+        Column(Attribute<?> attribute) {
+            this.attribute = attribute;
+        }
+
+        abstract void ensureCapacity(int capacity);
+
+        abstract void setObject(int row, Object value);
+
+        abstract Object getObject(int row);
+
+        abstract void write(int row, CSVFile csvFile);
+    }
+
+    private static final class IntColumn extends Column {
+        int[] values = new int[0];
+
+        IntColumn(Attribute<?> attribute) {
+            super(attribute);
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void setObject(int row, Object value) {
+            values[row] = (Integer) value;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        void write(int row, CSVFile csvFile) {
+            csvFile.add(values[row]);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        long[] values = new long[0];
+
+        LongColumn(Attribute<?> attribute) {
+            super(attribute);
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void setObject(int row, Object value) {
+            values[row] = (Long) value;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        void write(int row, CSVFile csvFile) {
+            csvFile.add(values[row]);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        double[] values = new double[0];
+
+        DoubleColumn(Attribute<?> attribute) {
+            super(attribute);
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void setObject(int row, Object value) {
+            values[row] = (Double) value;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        void write(int row, CSVFile csvFile) {
+            csvFile.add(values[row]);
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+        final BitSet values = new BitSet();
+
+        BooleanColumn(Attribute<?> attribute) {
+            super(attribute);
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {}
+
+        @Override
+        void setObject(int row, Object value) {
+            values.set(row, (Boolean) value);
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        void write(int row, CSVFile csvFile) {
+            csvFile.add(values.get(row));
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] values = new Object[0];
+
+        ObjectColumn(Attribute<?> attribute) {
+            super(attribute);
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void setObject(int row, Object value) {
+            values[row] = value;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        void write(int row, CSVFile csvFile) {
+            csvFile.add(attribute.serialize(values[row]));
+        }
+    }
+
+    /**
+     * The number of rows after which {@link #writeCSV(CSVFile)} flushes the CSV file.
+     */
+    private static final int CSV_FLUSH_INTERVAL = 1024;
+
+    private final ObjectIntMap<IIdentifier> identifierToRow = new ObjectIntMap<>();
+    private final ArrayList<IIdentifier> rowToIdentifier = new ArrayList<>();
+    private final ObjectIntMap<Attribute<?>> attributeToColumn = new ObjectIntMap<>();
+    private final ArrayList<Column> columns = new ArrayList<>();
+    private int capacity;
+
+    /**
+     * Creates an empty table with the given columns.
+     *
+     * @param attributes the attributes of the columns
+     */
+    public AttributeTable(Attribute<?>... attributes) {
+        for (Attribute<?> attribute : attributes) {
+            addColumn(attribute);
+        }
+    }
+
+    /**
+     * Adds a column for the given attribute, unless it already exists.
+     * The type of the column is chosen according to the {@link Attribute#getType() type} of the attribute.
+     *
+     * @param attribute the attribute
+     * @return this table
+     */
+    public AttributeTable addColumn(Attribute<?> attribute) {
+        if (!attributeToColumn.containsKey(attribute)) {
+            final Column column;
+            if (attribute.getType() == IntegerType.INSTANCE) {
+                column = new IntColumn(attribute);
+            } else if (attribute.getType() == LongType.INSTANCE) {
+                column = new LongColumn(attribute);
+            } else if (attribute.getType() == DoubleType.INSTANCE) {
+                column = new DoubleColumn(attribute);
+            } else if (attribute.getType() == BooleanType.INSTANCE) {
+                column = new BooleanColumn(attribute);
+            } else {
+                column = new ObjectColumn(attribute);
+            }
+            column.ensureCapacity(capacity);
+            attributeToColumn.put(attribute, columns.size());
+            columns.add(column);
+        }
+        return this;
+    }
+
+    /**
+     * {@return the attributes of all columns in the order they were added}
+     */
+    public List<Attribute<?>> getColumns() {
+        return Collections.unmodifiableList(attributeToColumn.keys());
+    }
+
+    /**
+     * {@return whether this table has a column for the given attribute}
+     *
+     * @param attribute the attribute
+     */
+    public boolean hasColumn(Attribute<?> attribute) {
+        return attributeToColumn.containsKey(attribute);
+    }
+
+    /**
+     * Adds a row for the given identifier, unless it already exists.
+     *
+     * @param identifier the identifier
+     * @return the index of the row
+     */
+    public int addRow(IIdentifier identifier) {
+        Objects.requireNonNull(identifier);
+        int row = identifierToRow.get(identifier, -1);
+        if (row < 0) {
+            row = rowToIdentifier.size();
+            if (row == capacity) {
+                capacity = Math.max(16, capacity + (capacity >> 1));
+                for (Column column : columns) {
+                    column.ensureCapacity(capacity);
+                }
+            }
+            identifierToRow.put(identifier, row);
+            rowToIdentifier.add(identifier);
+        }
+        return row;
+    }
+
+    /**
+     * Adds a row for each given object and sets the values of all columns from the objects' attribute values,
+     * including default values.
+     *
+     * @param <T> the type of the objects
+     * @param objects the objects
+     * @return this table
+     */
+    public <T extends IAttributable & IIdentifiable> AttributeTable addAll(Iterable<? extends T> objects) {
+        for (T object : objects) {
+            final int row = addRow(object.getIdentifier());
+            for (Column column : columns) {
+                final Object value = object.getAttributeValue(column.attribute).orElse(null);
+                if (value != null) {
+                    column.setObject(row, value);
+                    column.present.set(row);
+                } else {
+                    column.present.clear(row);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * {@return the index of the row for the given identifier, or -1 if there is no such row}
+     *
+     * @param identifier the identifier
+     */
+    public int getRow(IIdentifier identifier) {
+        return identifierToRow.get(identifier, -1);
+    }
+
+    /**
+     * {@return the identifier of the given row}
+     *
+     * @param row the row
+     */
+    public IIdentifier getIdentifier(int row) {
+        return rowToIdentifier.get(row);
+    }
+
+    /**
+     * {@return the number of rows}
+     */
+    public int getRowCount() {
+        return rowToIdentifier.size();
+    }
+
+    private Column getColumn(Attribute<?> attribute) {
+        final int index = attributeToColumn.get(attribute, -1);
+        if (index < 0) {
+            throw new IllegalArgumentException(String.format("no column for %s", attribute));
+        }
+        return columns.get(index);
+    }
+
+    private <C extends Column> C getColumn(Attribute<?> attribute, Class<C> columnClass) {
+        final Column column = getColumn(attribute);
+        if (!columnClass.isInstance(column)) {
+            throw new IllegalArgumentException(String.format("%s has type %s", attribute, attribute.getType()));
+        }
+        return columnClass.cast(column);
+    }
+
+    private void checkRow(int row) {
+        Objects.checkIndex(row, rowToIdentifier.size());
+    }
+
+    /**
+     * {@return whether the given cell has a value}
+     *
+     * @param row the row
+     * @param attribute the attribute of the column
+     */
+    public boolean hasValue(int row, Attribute<?> attribute) {
+        return getColumn(attribute).present.get(row);
+    }
+
+    /**
+     * {@return the value of the given cell}
+     *
+     * @param <T> the type of the attribute
+     * @param row the row
+     * @param attribute the attribute of the column
+     */
+    public <T> Result<T> get(int row, Attribute<T> attribute) {
+        final Column column = getColumn(attribute);
+        return column.present.get(row)
+                ? Result.of(attribute.getClassType().cast(column.getObject(row)))
+                : Result.empty();
+    }
+
+    /**
+     * Sets the value of the given cell.
+     *
+     * @param <T> the type of the attribute
+     * @param row the row
+     * @param attribute the attribute of the column
+     * @param value the value, or {@code null} to clear the cell
+     */
+    public <T> void set(int row, Attribute<T> attribute, T value) {
+        checkRow(row);
+        final Column column = getColumn(attribute);
+        if (value == null) {
+            column.present.clear(row);
+        } else {
+            column.setObject(row, attribute.getClassType().cast(value));
+            column.present.set(row);
+        }
+    }
+
+    /**
+     * {@return the value of the given cell of an integer column, or the given missing value if it is empty}
+     *
+     * @param row the row
+     * @param attribute the attribute of the column
+     * @param missingValue the value to return for an empty cell
+     */
+    public int getInt(int row, Attribute<Integer> attribute, int missingValue) {
+        final IntColumn column = getColumn(attribute, IntColumn.class);
+        return column.present.get(row) ? column.values[row] : missingValue;
+    }
+
+    /**
+     * Sets the value of the given cell of an integer column.
+     *
+     * @param row the row
+     * @param attribute the attribute of the column
+     * @param value the value
+     */
+    public void setInt(int row, Attribute<Integer> attribute, int value) {
+        checkRow(row);
+        final IntColumn column = getColumn(attribute, IntColumn.class);
+        column.values[row] = value;
+        column.present.set(row);
+    }
+
+    /**
+     * {@return the value of the given cell of a long column, or the given missing value if it is empty}
+     *
+     * @param row the row
+     * @param attribute the attribute of the column
+     * @param missingValue the value to return for an empty cell
+     */
+    public long getLong(int row, Attribute<Long> attribute, long missingValue) {
+        final LongColumn column = getColumn(attribute, LongColumn.class);
+        return column.present.get(row) ? column.values[row] : missingValue;
+    }
+
+    /**
+     * Sets the value of the given cell of a long column.
+     *
+     * @param row the row
+     * @param attribute the attribute of the column
+     * @param value the value
+     */
+    public void setLong(int row, Attribute<Long> attribute, long value) {
+        checkRow(row);
+        final LongColumn column = getColumn(attribute, LongColumn.class);
+        column.values[row] = value;
+        column.present.set(row);
+    }
+
+    /**
+     * {@return the value of the given cell of a double column, or the given missing value if it is empty}
+     *
+     * @param row the row
+     * @param attribute the attribute of the column
+     * @param missingValue the value to return for an empty cell
+     */
+    public double getDouble(int row, Attribute<Double> attribute, double missingValue) {
+        final DoubleColumn column = getColumn(attribute, DoubleColumn.class);
+        return column.present.get(row) ? column.values[row] : missingValue;
+    }
+
+    /**
+     * Sets the value of the given cell of a double column.
+     *
+     * @param row the row
+     * @param attribute the attribute of the column
+     * @param value the value
+     */
+    public void setDouble(int row, Attribute<Double> attribute, double value) {
+        checkRow(row);
+        final DoubleColumn column = getColumn(attribute, DoubleColumn.class);
+        column.values[row] = value;
+        column.present.set(row);
+    }
+
+    /**
+     * {@return the value of the given cell of a boolean column, or the given missing value if it is empty}
+     *
+     * @param row the row
+     * @param attribute the attribute of the column
+     * @param missingValue the value to return for an empty cell
+     */
+    public boolean getBoolean(int row, Attribute<Boolean> attribute, boolean missingValue) {
+        final BooleanColumn column = getColumn(attribute, BooleanColumn.class);
+        return column.present.get(row) ? column.values.get(row) : missingValue;
+    }
+
+    /**
+     * Sets the value of the given cell of a boolean column.
+     *
+     * @param row the row
+     * @param attribute the attribute of the column
+     * @param value the value
+     */
+    public void setBoolean(int row, Attribute<Boolean> attribute, boolean value) {
+        checkRow(row);
+        final BooleanColumn column = getColumn(attribute, BooleanColumn.class);
+        column.values.set(row, value);
+        column.present.set(row);
+    }
+
+    /**
+     * {@return the number of non-empty cells in the given column}
+     *
+     * @param attribute the attribute of the column
+     */
+    public int count(Attribute<?> attribute) {
+        return getColumn(attribute).present.cardinality();
+    }
+
+    /**
+     * {@return the number of cells with the value {@code true} in the given boolean column}
+     *
+     * @param attribute the attribute of the column
+     */
+    public int countTrue(Attribute<Boolean> attribute) {
+        final BooleanColumn column = getColumn(attribute, BooleanColumn.class);
+        final BitSet values = (BitSet) column.values.clone();
+        values.and(column.present);
+        return values.cardinality();
+    }
+
+    /**
+     * {@return the rows with non-empty cells in the given column in ascending order}
+     *
+     * @param attribute the attribute of the column
+     */
+    public IntStream rows(Attribute<?> attribute) {
+        return getColumn(attribute).present.stream();
+    }
+
+    /**
+     * {@return the values of all non-empty cells in the given integer column in row order}
+     *
+     * @param attribute the attribute of the column
+     */
+    public IntStream intValues(Attribute<Integer> attribute) {
+        final IntColumn column = getColumn(attribute, IntColumn.class);
+        return column.present.stream().map(row -> column.values[row]);
+    }
+
+    /**
+     * {@return the values of all non-empty cells in the given long column in row order}
+     *
+     * @param attribute the attribute of the column
+     */
+    public LongStream longValues(Attribute<Long> attribute) {
+        final LongColumn column = getColumn(attribute, LongColumn.class);
+        return column.present.stream().mapToLong(row -> column.values[row]);
+    }
+
+    /**
+     * {@return the values of all non-empty cells in the given numeric column in row order}
+     * Integer and long values are converted to double.
+     *
+     * @param attribute the attribute of the column
+     */
+    public DoubleStream doubleValues(Attribute<? extends Number> attribute) {
+        final Column column = getColumn(attribute);
+        if (column instanceof IntColumn) {
+            final int[] values = ((IntColumn) column).values;
+            return column.present.stream().mapToDouble(row -> values[row]);
+        } else if (column instanceof LongColumn) {
+            final long[] values = ((LongColumn) column).values;
+            return column.present.stream().mapToDouble(row -> values[row]);
+        } else if (column instanceof DoubleColumn) {
+            final double[] values = ((DoubleColumn) column).values;
+            return column.present.stream().mapToDouble(row -> values[row]);
+        }
+        throw new IllegalArgumentException(String.format("%s has type %s", attribute, attribute.getType()));
+    }
+
+    /**
+     * {@return the statistics (count, sum, minimum, maximum, and average) of the given integer column}
+     * Empty cells are ignored.
+     *
+     * @param attribute the attribute of the column
+     */
+    public IntSummaryStatistics summarizeInt(Attribute<Integer> attribute) {
+        final IntColumn column = getColumn(attribute, IntColumn.class);
+        final IntSummaryStatistics statistics = new IntSummaryStatistics();
+        final int[] values = column.values;
+        final BitSet present = column.present;
+        for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+            statistics.accept(values[row]);
+        }
+        return statistics;
+    }
+
+    /**
+     * {@return the statistics (count, sum, minimum, maximum, and average) of the given long column}
+     * Empty cells are ignored.
+     *
+     * @param attribute the attribute of the column
+     */
+    public LongSummaryStatistics summarizeLong(Attribute<Long> attribute) {
+        final LongColumn column = getColumn(attribute, LongColumn.class);
+        final LongSummaryStatistics statistics = new LongSummaryStatistics();
+        final long[] values = column.values;
+        final BitSet present = column.present;
+        for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+            statistics.accept(values[row]);
+        }
+        return statistics;
+    }
+
+    /**
+     * {@return the statistics (count, sum, minimum, maximum, and average) of the given numeric column}
+     * Empty cells are ignored.
+     *
+     * @param attribute the attribute of the column
+     */
+    public DoubleSummaryStatistics summarizeDouble(Attribute<? extends Number> attribute) {
+        final Column column = getColumn(attribute);
+        if (column instanceof DoubleColumn) {
+            final DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+            final double[] values = ((DoubleColumn) column).values;
+            final BitSet present = column.present;
+            for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+                statistics.accept(values[row]);
+            }
+            return statistics;
+        }
+        return doubleValues(attribute).summaryStatistics();
+    }
+
+    /**
+     * {@return the rows whose cells in the given integer column are non-empty and match the given predicate}
+     *
+     * @param attribute the attribute of the column
+     * @param predicate the predicate
+     */
+    public int[] selectRows(Attribute<Integer> attribute, IntPredicate predicate) {
+        final IntColumn column = getColumn(attribute, IntColumn.class);
+        final int[] values = column.values;
+        final BitSet present = column.present;
+        final ExpandableIntegerList rows = new ExpandableIntegerList();
+        for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+            if (predicate.test(values[row])) {
+                rows.add(row);
+            }
+        }
+        return rows.toArray();
+    }
+
+    /**
+     * {@return the rows whose cells in the given long column are non-empty and match the given predicate}
+     *
+     * @param attribute the attribute of the column
+     * @param predicate the predicate
+     */
+    public int[] selectLongRows(Attribute<Long> attribute, LongPredicate predicate) {
+        final LongColumn column = getColumn(attribute, LongColumn.class);
+        final long[] values = column.values;
+        final BitSet present = column.present;
+        final ExpandableIntegerList rows = new ExpandableIntegerList();
+        for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+            if (predicate.test(values[row])) {
+                rows.add(row);
+            }
+        }
+        return rows.toArray();
+    }
+
+    /**
+     * {@return the rows whose cells in the given double column are non-empty and match the given predicate}
+     *
+     * @param attribute the attribute of the column
+     * @param predicate the predicate
+     */
+    public int[] selectDoubleRows(Attribute<Double> attribute, DoublePredicate predicate) {
+        final DoubleColumn column = getColumn(attribute, DoubleColumn.class);
+        final double[] values = column.values;
+        final BitSet present = column.present;
+        final ExpandableIntegerList rows = new ExpandableIntegerList();
+        for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+            if (predicate.test(values[row])) {
+                rows.add(row);
+            }
+        }
+        return rows.toArray();
+    }
+
+    /**
+     * Writes this table to the given CSV file and flushes it.
+     * The first column contains the row identifiers, the other columns contain the values of the attributes in the
+     * order they were added, with empty fields for empty cells.
+     * The header fields are the identifier column's name "identifier" and the full names of the attributes.
+     *
+     * @param csvFile the CSV file
+     */
+    public void writeCSV(CSVFile csvFile) {
+        final List<String> headerFields = new ArrayList<>(columns.size() + 1);
+        headerFields.add("identifier");
+        for (Column column : columns) {
+            headerFields.add(column.attribute.getName().getFullName());
+        }
+        csvFile.setHeaderFields(headerFields);
+        for (int row = 0; row < rowToIdentifier.size(); row++) {
+            csvFile.newLine();
+            csvFile.add(rowToIdentifier.get(row));
+            for (Column column : columns) {
+                if (column.present.get(row)) {
+                    column.write(row, csvFile);
+                } else {
+                    csvFile.add("");
+                }
+            }
+            if ((row + 1) % CSV_FLUSH_INTERVAL == 0) {
+                csvFile.flush();
+            }
+        }
+        csvFile.flush();
+    }
+}
@@ -20,35 +20,123 @@
  */
 package de.featjar.base.data;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Util class for {@link Attribute attributes}.
+ * Acts as a registry that returns a canonical attribute for each name.
+ * Looking up a registered attribute is thread-safe, does not block, and does not allocate,
+ * while registering a new attribute synchronizes on this class.
  *
  * @author Elias Kuiter
  * @author Sebastian Krieter
  */
 public class Attributes {
 
-    private static final LinkedHashMap<Attribute<?>, Attribute<?>> attributeSet = new LinkedHashMap<>();
+    private static final ConcurrentHashMap<String, ConcurrentHashMap<String, Attribute<?>>> attributeMap =
+            new ConcurrentHashMap<>();
+
+    /**
+     * All attributes ever registered, in the order of their {@link Attribute#getIndex() indices}.
+     * Indices are never reused, so this array is not cleared by {@link #clearAllAttributes()}.
+     * The array is replaced whenever it grows, so it can be read without synchronization.
+     */
+    private static volatile Attribute<?>[] attributeArray = new Attribute<?>[16];
+
+    private static volatile int attributeCount = 0;
+
+    /**
+     * The index of the first attribute registered after the last call of {@link #clearAllAttributes()}.
+     * Attributes with a lower index may have been cleared.
+     */
+    private static volatile int firstRegisteredIndex = 0;
+
+    /**
+     * Attributes removed by {@link #clearAllAttributes()}.
+     * If an attribute with the same name and type is registered again, the removed attribute is reused,
+     * so that equal attributes always have the same index.
+     */
+    private static final HashMap<Name, Attribute<?>> clearedAttributes = new HashMap<>();
 
     public static Set<Attribute<?>> getAllAttributes() {
-        return Collections.unmodifiableSet(attributeSet.keySet());
+        return getAllAttributes(null);
+    }
+
+    public static synchronized void clearAllAttributes() {
+        for (ConcurrentHashMap<String, Attribute<?>> attributes : attributeMap.values()) {
+            for (Attribute<?> attribute : attributes.values()) {
+                clearedAttributes.put(attribute.getName(), attribute);
+            }
+        }
+        attributeMap.clear();
+        firstRegisteredIndex = attributeCount;
+    }
+
+    /**
+     * {@return the dense index of the given attribute, or -1 if it has no index and no attribute with the same name
+     * and type is registered}
+     * For attributes registered since the last call of {@link #clearAllAttributes()}, this is a field access.
+     * Otherwise, the index of the currently registered attribute with the same name and type is returned, if any.
+     *
+     * @param attribute the attribute
+     */
+    public static int getIndex(IAttribute<?> attribute) {
+        if (attribute instanceof Attribute) {
+            final int index = ((Attribute<?>) attribute).getIndex();
+            if (index >= firstRegisteredIndex) {
+                return index;
+            }
+            final Attribute<?> cachedAttribute = find(attribute.getNamespace(), attribute.getSimpleName());
+            if (cachedAttribute == null) {
+                return index;
+            }
+            if (cachedAttribute.getClassType() == attribute.getClassType()) {
+                return cachedAttribute.getIndex();
+            }
+        }
+        return -1;
     }
 
-    public static void clearAllAttributes() {
-        attributeSet.clear();
+    /**
+     * {@return the attribute with the given dense index}
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if no attribute has the given index
+     */
+    public static Attribute<?> getAttribute(int index) {
+        if (index < 0 || index >= attributeCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return attributeArray[index];
     }
 
-    public static Set<Attribute<?>> getAllAttributes(String namespace) {
-        return attributeSet.entrySet().stream()
-                .filter(e -> Objects.equals(namespace, e.getKey().getNamespace()))
-                .map(e -> e.getKey())
-                .collect(Collectors.toSet());
+    /**
+     * {@return the number of indices assigned to attributes so far}
+     */
+    public static int getIndexCount() {
+        return attributeCount;
+    }
+
+    /**
+     * {@return all currently registered attributes in the given name space in the order of their registration}
+     *
+     * @param namespace the name space, or {@code null} for all name spaces
+     */
+    public static synchronized Set<Attribute<?>> getAllAttributes(String namespace) {
+        final LinkedHashSet<Attribute<?>> attributes = new LinkedHashSet<>();
+        for (int i = 0; i < attributeCount; i++) {
+            final Attribute<?> attribute = attributeArray[i];
+            if ((namespace == null || namespace.equals(attribute.getNamespace()))
+                    && find(attribute.getNamespace(), attribute.getSimpleName()) == attribute) {
+                attributes.add(attribute);
+            }
+        }
+        return Collections.unmodifiableSet(attributes);
     }
 
     public static <T> Attribute<T> get(Name name, Class<T> type) {
@@ -66,18 +154,44 @@ public class Attributes {
 
     @SuppressWarnings("rawtypes")
     public static Attribute getRaw(String namespace, String name, Class<?> type) {
-        Attribute attribute = new Attribute<>(new Name(namespace, name), type);
-        Attribute cachedAttribute = attributeSet.get(attribute);
+        Attribute cachedAttribute = find(namespace, name);
         if (cachedAttribute == null) {
-            attributeSet.put(attribute, attribute);
-            return attribute;
-        } else {
-            if (type != cachedAttribute.getClassType()) {
-                throw new IllegalArgumentException(String.format(
-                        "Cannot create attribute for type %s. Attribute already defined for type %s.",
-                        type.toString(), cachedAttribute.getClassType()));
-            }
+            cachedAttribute = register(namespace, name, type);
+        }
+        if (type != cachedAttribute.getClassType()) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot create attribute for type %s. Attribute already defined for type %s.",
+                    type.toString(), cachedAttribute.getClassType()));
+        }
+        return cachedAttribute;
+    }
+
+    private static Attribute<?> find(String namespace, String name) {
+        final ConcurrentHashMap<String, Attribute<?>> attributes = attributeMap.get(namespace);
+        return attributes != null ? attributes.get(name) : null;
+    }
+
+    private static synchronized Attribute<?> register(String namespace, String name, Class<?> type) {
+        final Attribute<?> cachedAttribute = find(namespace, name);
+        if (cachedAttribute != null) {
             return cachedAttribute;
         }
+        final Name attributeName = Name.of(namespace, name);
+        final Attribute<?> clearedAttribute = clearedAttributes.remove(attributeName);
+        if (clearedAttribute != null && clearedAttribute.getClassType() == type) {
+            attributeMap.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>()).put(name, clearedAttribute);
+            return clearedAttribute;
+        }
+        final Attribute<?> attribute = new Attribute<>(attributeName, type);
+        Attribute<?>[] attributes = attributeArray;
+        if (attributeCount == attributes.length) {
+            attributes = Arrays.copyOf(attributes, attributes.length << 1);
+        }
+        attribute.setIndex(attributeCount);
+        attributes[attributeCount] = attribute;
+        attributeArray = attributes;
+        attributeCount++;
+        attributeMap.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>()).put(name, attribute);
+        return attribute;
     }
 }
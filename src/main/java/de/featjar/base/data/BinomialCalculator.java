@@ -20,81 +20,257 @@
  */
 package de.featjar.base.data;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+
 /**
  * Computes binomial coefficients and factorial.
+ * All binomial coefficients up to the given maximum n and k are precomputed in an immutable Pascal table,
+ * so lookups require no synchronization and instances can be shared freely between threads.
+ * Tables of moderate size are additionally shared between all instances.
+ * Binomial coefficients that do not fit into a {@code long} can be computed as {@link BigInteger}.
  *
  * @author Sebastian Krieter
  */
-// TODO Improve performance and memory efficiency
 public class BinomialCalculator {
 
+    /**
+     * Maximum number of table entries up to which a table is shared between all instances.
+     */
+    private static final int MAXIMUM_SHARED_TABLE_SIZE = 1 << 20;
+
+    /**
+     * Largest factorial that fits into a {@code long}.
+     */
+    private static final int MAXIMUM_FACTORIAL = 20;
+
+    private static final class PascalTable {
+        private final int maxK, maxN;
+
+        /**
+         * Stores the binomial coefficient for n over k at {@code columns[k][n]}.
+         * Coefficients that do not fit into a {@code long} are saturated at {@link Long#MAX_VALUE},
+         * so each column is non-decreasing.
+         */
+        private final long[][] columns;
+
+        private PascalTable(int maxK, int maxN) {
+            this.maxK = maxK;
+            this.maxN = maxN;
+            columns = new long[maxK + 1][maxN + 1];
+            Arrays.fill(columns[0], 1);
+            for (int k = 1; k <= maxK; k++) {
+                final long[] previousColumn = columns[k - 1];
+                final long[] column = columns[k];
+                for (int n = k; n <= maxN; n++) {
+                    final long sum = previousColumn[n - 1] + column[n - 1];
+                    column[n] = sum < 0 ? Long.MAX_VALUE : sum;
+                }
+            }
+        }
+
+        private boolean covers(int maxK, int maxN) {
+            return this.maxK >= maxK && this.maxN >= maxN;
+        }
+    }
+
+    private static volatile PascalTable sharedTable;
+
+    private static PascalTable getTable(int maxK, int maxN) {
+        PascalTable table = sharedTable;
+        if (table != null && table.covers(maxK, maxN)) {
+            return table;
+        }
+        final int sharedK = table != null ? Math.max(maxK, table.maxK) : maxK;
+        final int sharedN = table != null ? Math.max(maxN, table.maxN) : maxN;
+        if ((long) (sharedK + 1) * (sharedN + 1) <= MAXIMUM_SHARED_TABLE_SIZE) {
+            table = new PascalTable(sharedK, sharedN);
+            sharedTable = table;
+            return table;
+        }
+        return new PascalTable(maxK, maxN);
+    }
+
     private final long[][] binomial;
     private final long[] factorial;
 
     private final int maxK, maxN;
 
     public BinomialCalculator(int maxK, int maxN) {
+        if (maxK < 0 || maxN < 0) {
+            throw new IllegalArgumentException(String.format("invalid size n=%d, k=%d", maxN, maxK));
+        }
         this.maxK = maxK;
         this.maxN = maxN;
-        binomial = new long[maxN + 1][maxK + 1];
-        factorial = new long[maxK + 1];
+        binomial = getTable(maxK, maxN).columns;
+        factorial = new long[Math.min(maxK, MAXIMUM_FACTORIAL) + 1];
+        factorial[0] = 1;
+        for (int i = 1; i < factorial.length; i++) {
+            factorial[i] = factorial[i - 1] * i;
+        }
     }
 
+    /**
+     * {@return the factorial of k}
+     *
+     * @param k the number
+     * @throws ArithmeticException if the factorial does not fit into a {@code long}
+     */
     public long factorial(int k) {
-        synchronized (factorial) {
-            long f = factorial[k];
-            if (f == 0) {
-                f = 1;
-                for (int i = 2; i <= k; i++) {
-                    f *= i;
-                }
-                factorial[k] = f;
-            }
-            return f;
-        }
+        return k < factorial.length ? factorial[k] : computeFactorial(k);
     }
 
+    /**
+     * {@return the binomial coefficient for the maximum n over the maximum k}
+     *
+     * @throws ArithmeticException if the binomial coefficient does not fit into a {@code long}
+     */
     public long binomial() {
         return binomial(maxN, maxK);
     }
 
+    /**
+     * {@return the binomial coefficient for n over k}
+     * Takes constant time if n and k are at most the maximum n and k of this calculator.
+     *
+     * @param n the size of the set
+     * @param k the size of the subsets
+     * @throws ArithmeticException if the binomial coefficient does not fit into a {@code long}
+     */
     public long binomial(int n, int k) {
-        synchronized (binomial) {
-            long b = binomial[n][k];
-            if (b == 0) {
-                b = computeBinomial(n, k);
-                binomial[n][k] = b;
-            }
-            return b;
+        if (k > maxK || n > maxN || k < 0 || n < 0) {
+            return computeBinomial(n, k);
+        }
+        final long b = binomial[k][n];
+        return b == Long.MAX_VALUE ? computeBigBinomial(n, k).longValueExact() : b;
+    }
+
+    /**
+     * {@return the binomial coefficient for the maximum n over the maximum k}
+     * Unlike {@link #binomial()}, this method does not overflow.
+     */
+    public BigInteger bigBinomial() {
+        return bigBinomial(maxN, maxK);
+    }
+
+    /**
+     * {@return the binomial coefficient for n over k}
+     * Unlike {@link #binomial(int, int)}, this method does not overflow.
+     *
+     * @param n the size of the set
+     * @param k the size of the subsets
+     */
+    public BigInteger bigBinomial(int n, int k) {
+        if (k <= maxK && n <= maxN && k >= 0 && n >= 0 && binomial[k][n] != Long.MAX_VALUE) {
+            return BigInteger.valueOf(binomial[k][n]);
         }
+        return computeBigBinomial(n, k);
     }
 
     public int[] combination(long index, int[] combination) {
         return combination(index, combination, 0);
     }
 
+    /**
+     * Computes the combination with the given index in the combinatorial number system.
+     * For each position, the element is found with a binary search over the Pascal table.
+     *
+     * @param index the index of the combination
+     * @param combination the array to store the combination in
+     * @param offset the offset within the array
+     * @return the given array
+     */
     public int[] combination(long index, int[] combination, int offset) {
-        for (int i = maxK; i > 0; i--) {
+        return combination(index, combination, offset, maxK, maxN - 1);
+    }
+
+    private int[] combination(long index, int[] combination, int offset, int k, int upper) {
+        for (int i = k; i > 0; i--) {
             if (index <= 0) {
                 combination[i - 1 + offset] = i - 1;
             } else {
-                final int p = (int) Math.ceil(Math.pow(index * factorial(i), (1.0 / i)));
-                for (int j = p; j <= maxN; j++) {
-                    if (binomial(j, i) > index) {
-                        combination[i - 1] = j - 1;
-                        index -= binomial(j - 1, i);
-                        break;
+                final long[] column = binomial[i];
+                int low = i - 1;
+                int high = upper;
+                while (low < high) {
+                    final int middle = (low + high + 1) >>> 1;
+                    if (column[middle] != Long.MAX_VALUE && column[middle] <= index) {
+                        low = middle;
+                    } else {
+                        high = middle - 1;
                     }
                 }
+                combination[i - 1 + offset] = low;
+                index -= column[low];
+                upper = low - 1;
+            }
+        }
+        return combination;
+    }
+
+    /**
+     * Computes the combination with the given index in the combinatorial number system.
+     * Supports indices beyond the range of {@code long}.
+     * As soon as the remaining index fits into a {@code long}, the remaining positions are computed as in
+     * {@link #combination(long, int[], int)}.
+     *
+     * @param index the index of the combination
+     * @param combination the array to store the combination in
+     * @param offset the offset within the array
+     * @return the given array
+     */
+    public int[] combination(BigInteger index, int[] combination, int offset) {
+        int upper = maxN - 1;
+        for (int i = maxK; i > 0; i--) {
+            if (index.bitLength() < Long.SIZE) {
+                return combination(index.longValue(), combination, offset, i, upper);
+            }
+            int low = i - 1;
+            int high = upper;
+            while (low < high) {
+                final int middle = (low + high + 1) >>> 1;
+                if (bigBinomial(middle, i).compareTo(index) <= 0) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
             }
+            combination[i - 1 + offset] = low;
+            index = index.subtract(bigBinomial(low, i));
+            upper = low - 1;
         }
         return combination;
     }
 
+    /**
+     * {@return the index of the given combination in the combinatorial number system}
+     * Unlike {@link #index(int[])}, this method does not overflow.
+     *
+     * @param c the combination
+     */
+    public BigInteger bigIndex(int[] c) {
+        BigInteger index = BigInteger.ZERO;
+        for (int i = 0; i < maxK; i++) {
+            index = index.add(bigBinomial(c[i], i + 1));
+        }
+        return index;
+    }
+
+    /**
+     * {@return the index of the given combination in the combinatorial number system}
+     *
+     * @param c the combination
+     * @throws ArithmeticException if the index does not fit into a {@code long}, in which case
+     * {@link #bigIndex(int[])} must be used
+     */
     public long index(int[] c) {
         long index = 0;
         for (int i = 0; i < maxK; i++) {
-            index += binomial(c[i], i + 1);
+            final long b = binomial[i + 1][c[i]];
+            if (b == Long.MAX_VALUE) {
+                throw new ArithmeticException("long overflow");
+            }
+            index = Math.addExact(index, b);
         }
         return index;
     }
@@ -114,6 +290,27 @@ public class BinomialCalculator {
         return b;
     }
 
+    /**
+     * {@return the binomial coefficient for n over k as a {@link BigInteger}}
+     *
+     * @param n the size of the set
+     * @param k the size of the subsets
+     */
+    public static BigInteger computeBigBinomial(int n, int k) {
+        if (n < k) {
+            return BigInteger.ZERO;
+        }
+        if (k > (n - k)) {
+            k = n - k;
+        }
+
+        BigInteger b = BigInteger.ONE;
+        for (int i = 0; i < k; i++) {
+            b = b.multiply(BigInteger.valueOf(n - i)).divide(BigInteger.valueOf(i + 1));
+        }
+        return b;
+    }
+
     public static long computeFactorial(int k) {
         long f = 1;
         for (int i = 2; i <= k; i++) {
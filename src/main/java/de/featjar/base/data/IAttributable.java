@@ -48,8 +48,29 @@ public interface IAttributable {
         }
         LinkedHashMap<IAttribute<?>, Object> clone =
                 new LinkedHashMap<>((int) (attributes.get().size() * 1.5));
-        attributes.get().entrySet().stream()
-                .forEach(e -> clone.put(e.getKey(), e.getKey().copyValue(this).get()));
+        for (IAttribute<?> attribute : attributes.get().keySet()) {
+            clone.put(attribute, attribute.copyValue(this).get());
+        }
+        return clone;
+    }
+
+    /**
+     * {@return a copy of this object's attributes in an {@link AttributeStore}, or {@code null} if it has none}
+     * Unlike {@link #cloneAttributes()}, the copy does not need a hash table and, if this object already uses an
+     * {@link AttributeStore}, no attribute lookups.
+     */
+    default AttributeStore cloneAttributeStore() {
+        Optional<Map<IAttribute<?>, Object>> attributes = getAttributes();
+        if (attributes.isEmpty()) {
+            return null;
+        }
+        if (attributes.get() instanceof AttributeStore) {
+            return ((AttributeStore) attributes.get()).copy(this);
+        }
+        AttributeStore clone = new AttributeStore(attributes.get().size());
+        for (IAttribute<?> attribute : attributes.get().keySet()) {
+            clone.put(attribute, attribute.copyValue(this).get());
+        }
         return clone;
     }
 
@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Maps primitive integers to primitive integers without boxing.
+ * Uses open addressing with linear probing, where the key 0 marks a free slot and is stored separately.
+ * Iteration order depends only on the sequence of modifications, so it is deterministic.
+ */
+public class IntIntMap {
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntIntMap() {
+        this(8);
+    }
+
+    /**
+     * Creates an empty map that can hold the given number of keys without resizing.
+     *
+     * @param expectedSize the expected number of keys
+     */
+    public IntIntMap(int expectedSize) {
+        allocate(ObjectIntMap.tableCapacity(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int findSlot(int key) {
+        int slot = ObjectIntMap.mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * {@return the value mapped to the given key, or the given missing value if the key is not mapped}
+     *
+     * @param key the key
+     * @param missingValue the value to return if the key is not mapped
+     */
+    public int get(int key, int missingValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+        final int slot = findSlot(key);
+        return keys[slot] != 0 ? values[slot] : missingValue;
+    }
+
+    /**
+     * {@return whether the given key is mapped}
+     *
+     * @param key the key
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : keys[findSlot(key)] != 0;
+    }
+
+    /**
+     * Maps a key to a value, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return whether the key was not mapped before
+     */
+    public boolean put(int key, int value) {
+        if (key == 0) {
+            final boolean added = !hasZeroKey;
+            if (added) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return added;
+        }
+        int slot = findSlot(key);
+        if (keys[slot] != 0) {
+            values[slot] = value;
+            return false;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length << 1);
+            slot = findSlot(key);
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the mapping of a key.
+     *
+     * @param key the key
+     * @return whether the key was mapped before
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            final boolean removed = hasZeroKey;
+            if (removed) {
+                hasZeroKey = false;
+                size--;
+            }
+            return removed;
+        }
+        int gap = findSlot(key);
+        if (keys[gap] == 0) {
+            return false;
+        }
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            final int ideal = ObjectIntMap.mix(keys[next]) & mask;
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        size--;
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                final int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * {@return the number of mapped keys}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return whether no key is mapped}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@return all mapped keys} The returned array may be modified.
+     * The order is consistent with {@link #values()}.
+     */
+    public int[] keys() {
+        final int[] keyArray = new int[size];
+        int j = 0;
+        if (hasZeroKey) {
+            j++;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                keyArray[j++] = key;
+            }
+        }
+        return keyArray;
+    }
+
+    /**
+     * {@return all mapped values} The returned array may be modified.
+     * The order is consistent with {@link #keys()}.
+     */
+    public int[] values() {
+        final int[] valueArray = new int[size];
+        int j = 0;
+        if (hasZeroKey) {
+            valueArray[j++] = zeroValue;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                valueArray[j++] = values[i];
+            }
+        }
+        return valueArray;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        final int[] keyArray = keys();
+        final int[] valueArray = values();
+        for (int i = 0; i < keyArray.length; i++) {
+            joiner.add(keyArray[i] + "=" + valueArray[i]);
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import java.util.Arrays;
+
+/**
+ * Answers membership queries for a fixed array of integers.
+ * If the integers span a small range (as is typical for literals), a bitmap over this range is used,
+ * so each query takes constant time.
+ * Otherwise, a sorted copy of the integers is searched with binary search.
+ * Used by {@link IntegerList} to implement set operations in (near-)linear time.
+ */
+final class IntLookup {
+
+    /**
+     * Maximum product of the sizes of two arrays for which a nested linear scan is used instead of a lookup.
+     */
+    static final int LINEAR_SCAN_THRESHOLD = 256;
+
+    private final long[] bitmap;
+    private final int offset;
+    private final int[] sorted;
+
+    /**
+     * {@return whether a nested linear scan over two arrays of the given lengths is expected to be faster than
+     * building a lookup}
+     *
+     * @param length1 the length of the first array
+     * @param length2 the length of the second array
+     */
+    static boolean isLinearScanFaster(int length1, int length2) {
+        return (long) length1 * length2 <= LINEAR_SCAN_THRESHOLD;
+    }
+
+    /**
+     * Creates a lookup for the given integers.
+     * The array is not modified.
+     *
+     * @param integers the integers
+     */
+    IntLookup(int[] integers) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int integer : integers) {
+            if (integer < min) min = integer;
+            if (integer > max) max = integer;
+        }
+        final long range = (long) max - min + 1;
+        if (integers.length > 0 && range <= 64L * Math.max(integers.length, 64)) {
+            offset = min;
+            bitmap = new long[(int) ((range + 63) >>> 6)];
+            for (int integer : integers) {
+                final int bit = integer - offset;
+                bitmap[bit >>> 6] |= 1L << bit;
+            }
+            sorted = null;
+        } else {
+            offset = 0;
+            bitmap = null;
+            sorted = Arrays.copyOf(integers, integers.length);
+            Arrays.sort(sorted);
+        }
+    }
+
+    /**
+     * {@return whether the given integer is contained in this lookup}
+     *
+     * @param integer the integer
+     */
+    boolean contains(int integer) {
+        if (bitmap != null) {
+            final long bit = (long) integer - offset;
+            return bit >= 0 && bit < ((long) bitmap.length << 6) && (bitmap[(int) (bit >>> 6)] & (1L << bit)) != 0;
+        } else {
+            return Arrays.binarySearch(sorted, integer) >= 0;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A set of primitive integers without boxing.
+ * Uses open addressing with linear probing, where the element 0 marks a free slot and is stored separately.
+ * For dense sets of literals, consider {@link LiteralSet} instead.
+ */
+public class IntSet {
+
+    private int[] elements;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    /**
+     * Creates an empty set.
+     */
+    public IntSet() {
+        this(8);
+    }
+
+    /**
+     * Creates an empty set that can hold the given number of elements without resizing.
+     *
+     * @param expectedSize the expected number of elements
+     */
+    public IntSet(int expectedSize) {
+        allocate(ObjectIntMap.tableCapacity(expectedSize));
+    }
+
+    /**
+     * {@return a new set containing the given integers}
+     *
+     * @param integers the integers
+     */
+    public static IntSet of(int... integers) {
+        final IntSet set = new IntSet(integers.length);
+        for (int integer : integers) {
+            set.add(integer);
+        }
+        return set;
+    }
+
+    private void allocate(int capacity) {
+        elements = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int findSlot(int integer) {
+        int slot = ObjectIntMap.mix(integer) & mask;
+        while (elements[slot] != 0 && elements[slot] != integer) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * {@return whether this set contains the given integer}
+     *
+     * @param integer the integer
+     */
+    public boolean contains(int integer) {
+        return integer == 0 ? containsZero : elements[findSlot(integer)] != 0;
+    }
+
+    /**
+     * Adds an integer to this set.
+     *
+     * @param integer the integer
+     * @return whether this set changed
+     */
+    public boolean add(int integer) {
+        if (integer == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = findSlot(integer);
+        if (elements[slot] != 0) {
+            return false;
+        }
+        if ((size + 1) * 2 > elements.length) {
+            rehash(elements.length << 1);
+            slot = findSlot(integer);
+        }
+        elements[slot] = integer;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes an integer from this set.
+     *
+     * @param integer the integer
+     * @return whether this set changed
+     */
+    public boolean remove(int integer) {
+        if (integer == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int gap = findSlot(integer);
+        if (elements[gap] == 0) {
+            return false;
+        }
+        int next = (gap + 1) & mask;
+        while (elements[next] != 0) {
+            final int ideal = ObjectIntMap.mix(elements[next]) & mask;
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                elements[gap] = elements[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        elements[gap] = 0;
+        size--;
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        final int[] oldElements = elements;
+        allocate(capacity);
+        for (int element : oldElements) {
+            if (element != 0) {
+                elements[findSlot(element)] = element;
+            }
+        }
+    }
+
+    /**
+     * Removes all integers from this set.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * {@return the number of integers in this set}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return whether this set is empty}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@return all integers in this set} The returned array may be modified.
+     */
+    public int[] toArray() {
+        final int[] integers = new int[size];
+        int j = containsZero ? 1 : 0;
+        for (int element : elements) {
+            if (element != 0) {
+                integers[j++] = element;
+            }
+        }
+        return integers;
+    }
+
+    /**
+     * {@return a stream of all integers in this set}
+     */
+    public IntStream stream() {
+        return IntStream.of(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
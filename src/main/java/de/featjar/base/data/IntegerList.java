@@ -30,6 +30,8 @@ import java.util.stream.IntStream;
  * An unordered list of integers. Subclasses implement specific interpretations
  * of these integers (e.g., as an index into a {@link RangeMap}). Negative and
  * zero integers are allowed.
+ * Element-wise operations are implemented as simple loops over the underlying
+ * array.
  *
  * @author Sebastian Krieter
  * @author Elias Kuiter
@@ -76,7 +78,11 @@ public class IntegerList implements Serializable {
      * @param collection the collection
      */
     public IntegerList(Collection<Integer> collection) {
-        this(collection.stream().mapToInt(Integer::intValue).toArray());
+        elements = new int[collection.size()];
+        int i = 0;
+        for (Integer integer : collection) {
+            elements[i++] = integer;
+        }
     }
 
     /**
@@ -141,7 +147,11 @@ public class IntegerList implements Serializable {
      * array may be modified.
      */
     public final int[] getAbsoluteValuesInts() {
-        return Arrays.stream(elements).map(Math::abs).toArray();
+        final int[] absoluteValues = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            absoluteValues[i] = Math.abs(elements[i]);
+        }
+        return absoluteValues;
     }
 
     /**
@@ -149,7 +159,14 @@ public class IntegerList implements Serializable {
      * array may be modified.
      */
     public int[] getPositiveValuesInts() {
-        return Arrays.stream(elements).filter(integer -> integer > 0).toArray();
+        final int[] positiveValues = new int[countPositives()];
+        int j = 0;
+        for (int integer : elements) {
+            if (integer > 0) {
+                positiveValues[j++] = integer;
+            }
+        }
+        return positiveValues;
     }
 
     /**
@@ -157,7 +174,14 @@ public class IntegerList implements Serializable {
      * array may be modified.
      */
     public int[] getNegativeValuesInts() {
-        return Arrays.stream(elements).filter(integer -> integer < 0).toArray();
+        final int[] negativeValues = new int[countNegatives()];
+        int j = 0;
+        for (int integer : elements) {
+            if (integer < 0) {
+                negativeValues[j++] = integer;
+            }
+        }
+        return negativeValues;
     }
 
     /**
@@ -165,7 +189,14 @@ public class IntegerList implements Serializable {
      * array may be modified.
      */
     public int[] getNonZeroValuesInts() {
-        return Arrays.stream(elements).filter(integer -> integer != 0).toArray();
+        final int[] nonZeroValues = new int[countNonZero()];
+        int j = 0;
+        for (int integer : elements) {
+            if (integer != 0) {
+                nonZeroValues[j++] = integer;
+            }
+        }
+        return nonZeroValues;
     }
 
     /**
@@ -176,17 +207,7 @@ public class IntegerList implements Serializable {
      */
     public final int[] addAllInts(int... integers) {
         boolean[] intersectionMarker = new boolean[elements.length];
-        int count = 0;
-        for (int integer : integers) {
-            final int[] indices = indicesOf(integer);
-            for (int i = 0; i < indices.length; i++) {
-                int index = indices[i];
-                if (index >= 0 && !intersectionMarker[index]) {
-                    count++;
-                    intersectionMarker[index] = true;
-                }
-            }
-        }
+        int count = markContained(integers, intersectionMarker);
 
         int[] newArray = new int[elements.length + integers.length - count];
         int j = 0;
@@ -208,17 +229,7 @@ public class IntegerList implements Serializable {
      */
     public final int[] retainAllInts(int... integers) {
         boolean[] intersectionMarker = new boolean[elements.length];
-        int count = 0;
-        for (int integer : integers) {
-            final int[] indices = indicesOf(integer);
-            for (int i = 0; i < indices.length; i++) {
-                int index = indices[i];
-                if (index >= 0 && !intersectionMarker[index]) {
-                    count++;
-                    intersectionMarker[index] = true;
-                }
-            }
-        }
+        int count = markContained(integers, intersectionMarker);
 
         int[] newArray = new int[count];
         int j = 0;
@@ -240,17 +251,7 @@ public class IntegerList implements Serializable {
      */
     public final int[] removeAllInts(int... integers) {
         boolean[] intersectionMarker = new boolean[elements.length];
-        int count = 0;
-        for (int integer : integers) {
-            final int[] indices = indicesOf(integer);
-            for (int i = 0; i < indices.length; i++) {
-                int index = indices[i];
-                if (index >= 0 && !intersectionMarker[index]) {
-                    count++;
-                    intersectionMarker[index] = true;
-                }
-            }
-        }
+        int count = markContained(integers, intersectionMarker);
 
         int[] newArray = new int[elements.length - count];
         int j = 0;
@@ -265,12 +266,90 @@ public class IntegerList implements Serializable {
         return newArray;
     }
 
+    /**
+     * Marks all positions of this integer list whose integer is contained in the given integers.
+     * For large inputs, a lookup structure over the given integers is built, which takes O(n + m) time
+     * (or O((n + m) log m) for widely spread integers) instead of O(n * m).
+     *
+     * @param integers the integers
+     * @param marker the marker array with the same length as this integer list
+     * @return the number of marked positions
+     */
+    private int markContained(int[] integers, boolean[] marker) {
+        int count = 0;
+        if (IntLookup.isLinearScanFaster(elements.length, integers.length)) {
+            for (int i = 0; i < elements.length; i++) {
+                final int element = elements[i];
+                for (int integer : integers) {
+                    if (element == integer) {
+                        marker[i] = true;
+                        count++;
+                        break;
+                    }
+                }
+            }
+        } else {
+            final IntLookup lookup = new IntLookup(integers);
+            for (int i = 0; i < elements.length; i++) {
+                if (lookup.contains(elements[i])) {
+                    marker[i] = true;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts how many of the given integers are contained in this integer list.
+     * For large inputs, a lookup structure over this integer list is built, which takes O(n + m) time
+     * (or O((n + m) log n) for widely spread integers) instead of O(n * m).
+     *
+     * @param integers the integers
+     * @param negated whether to test for the negated integers
+     * @param stopOnFound whether to stop counting at the first contained integer
+     * @param stopOnMissing whether to stop counting at the first integer that is not contained
+     * @return the number of contained integers
+     */
+    private int countContained(int[] integers, boolean negated, boolean stopOnFound, boolean stopOnMissing) {
+        int count = 0;
+        if (IntLookup.isLinearScanFaster(elements.length, integers.length)) {
+            for (int integer : integers) {
+                if (indexOf(negated ? -integer : integer) >= 0) {
+                    count++;
+                    if (stopOnFound) {
+                        break;
+                    }
+                } else if (stopOnMissing) {
+                    break;
+                }
+            }
+        } else {
+            final IntLookup lookup = new IntLookup(elements);
+            for (int integer : integers) {
+                if (lookup.contains(negated ? -integer : integer)) {
+                    count++;
+                    if (stopOnFound) {
+                        break;
+                    }
+                } else if (stopOnMissing) {
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
     /**
      * {@return a new integer list containing the negated values of this integer
      * list}
      */
     public int[] negateInts() {
-        return Arrays.stream(elements).map(integer -> -integer).toArray();
+        final int[] negatedValues = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            negatedValues[i] = -elements[i];
+        }
+        return negatedValues;
     }
 
     /**
@@ -396,7 +475,7 @@ public class IntegerList implements Serializable {
      * @param integers the integers
      */
     public final boolean containsAny(int... integers) {
-        return Arrays.stream(integers).anyMatch(this::contains);
+        return countContained(integers, false, true, false) > 0;
     }
 
     /**
@@ -406,7 +485,7 @@ public class IntegerList implements Serializable {
      * @param integers the integers
      */
     public final boolean containsAnyNegated(int... integers) {
-        return Arrays.stream(integers).anyMatch(this::containsNegated);
+        return countContained(integers, true, true, false) > 0;
     }
 
     /**
@@ -415,7 +494,7 @@ public class IntegerList implements Serializable {
      * @param integers the integers
      */
     public final boolean containsAll(int... integers) {
-        return Arrays.stream(integers).allMatch(this::contains);
+        return countContained(integers, false, false, true) == integers.length;
     }
 
     /**
@@ -425,7 +504,7 @@ public class IntegerList implements Serializable {
      * @param integers the integers
      */
     public final boolean containsAllNegated(int... integers) {
-        return Arrays.stream(integers).allMatch(this::containsNegated);
+        return countContained(integers, true, false, true) == integers.length;
     }
 
     /**
@@ -434,7 +513,7 @@ public class IntegerList implements Serializable {
      * @param integers the integers
      */
     public final boolean containsNone(int... integers) {
-        return Arrays.stream(integers).noneMatch(this::contains);
+        return countContained(integers, false, true, false) == 0;
     }
     /**
      * {@return whether this integer list and the given integers are disjoint}
@@ -442,7 +521,7 @@ public class IntegerList implements Serializable {
      * @param integers the integers
      */
     public final boolean containsNoneNegated(int... integers) {
-        return Arrays.stream(integers).noneMatch(this::containsNegated);
+        return countContained(integers, true, true, false) == 0;
     }
 
     /**
@@ -513,10 +592,12 @@ public class IntegerList implements Serializable {
      * @param integer the integer
      */
     public int indexOf(int integer) {
-        return IntStream.range(0, elements.length)
-                .filter(i -> elements[i] == integer)
-                .findFirst()
-                .orElse(-1);
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] == integer) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -527,30 +608,52 @@ public class IntegerList implements Serializable {
      * @param integer the integer
      */
     public int[] indicesOf(int integer) {
-        return IntStream.range(0, elements.length)
-                .filter(i -> elements[i] == integer)
-                .toArray();
+        int count = 0;
+        for (int element : elements) {
+            if (element == integer) {
+                count++;
+            }
+        }
+        final int[] indices = new int[count];
+        for (int i = 0, j = 0; j < count; i++) {
+            if (elements[i] == integer) {
+                indices[j++] = i;
+            }
+        }
+        return indices;
     }
 
     /**
      * {@return the number of positive values in this integer list's integers}
      */
     public int countPositives() {
-        return (int) Arrays.stream(elements).filter(integer -> integer > 0).count();
+        int count = 0;
+        for (int integer : elements) {
+            count += integer > 0 ? 1 : 0;
+        }
+        return count;
     }
 
     /**
      * {@return the number of negative values in this integer list's integers}
      */
     public int countNegatives() {
-        return (int) Arrays.stream(elements).filter(integer -> integer < 0).count();
+        int count = 0;
+        for (int integer : elements) {
+            count += integer >>> 31;
+        }
+        return count;
     }
 
     /**
      * {@return the number of non-zero values in this integer list's integers}
      */
     public int countNonZero() {
-        return (int) Arrays.stream(elements).filter(integer -> integer != 0).count();
+        int count = 0;
+        for (int integer : elements) {
+            count += integer != 0 ? 1 : 0;
+        }
+        return count;
     }
 
     /**
@@ -574,7 +677,7 @@ public class IntegerList implements Serializable {
      * @param integers the integers
      */
     public final int sizeOfIntersection(int... integers) {
-        return (int) Arrays.stream(integers).filter(this::contains).count();
+        return countContained(integers, false, false, false);
     }
 
     /**
@@ -584,7 +687,7 @@ public class IntegerList implements Serializable {
      * @param integers the integers
      */
     public final int sizeOfDisjoint(int... integers) {
-        return (int) Arrays.stream(integers).filter(i -> !contains(i)).count();
+        return integers.length - countContained(integers, false, false, false);
     }
 
     /**
@@ -0,0 +1,431 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+/**
+ * Stores many lists of integers in one contiguous buffer with an index of offsets.
+ * Compared to storing each list as an {@link IntegerList}, this avoids two object headers and the hash code fields
+ * per list, which saves a considerable amount of memory and garbage collection time for millions of lists.
+ * Lists can be appended, but not modified or removed.
+ * <p>
+ * Stored lists are accessed by their index, either directly or through {@link View flyweight views},
+ * which do not copy any integers.
+ * A store can be written to a file and mapped back into memory with {@link #map(Path)},
+ * in which case the integers are read from the file on demand instead of residing on the heap.
+ * The total number of stored integers is limited to {@link Integer#MAX_VALUE} (and for mapped stores to the maximum
+ * size of a memory-mapped buffer).
+ */
+public class IntegerListStore implements Iterable<IntegerListStore.View> {
+
+    /**
+     * A flyweight view of a single list in an {@link IntegerListStore}.
+     * Views obtained from {@link IntegerListStore#iterator()} are reused for all lists and must not be stored.
+     */
+    public static final class View {
+        private final IntegerListStore store;
+        private int index;
+        private int offset;
+        private int length;
+
+        private View(IntegerListStore store) {
+            this.store = store;
+        }
+
+        private View moveTo(int index) {
+            this.index = index;
+            offset = store.offsets.get(index);
+            length = store.offsets.get(index + 1) - offset;
+            return this;
+        }
+
+        /**
+         * {@return the index of the viewed list in its store}
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * {@return the number of integers in the viewed list}
+         */
+        public int size() {
+            return length;
+        }
+
+        /**
+         * {@return whether the viewed list is empty}
+         */
+        public boolean isEmpty() {
+            return length == 0;
+        }
+
+        /**
+         * {@return the integer at the given position of the viewed list}
+         *
+         * @param position the position
+         * @throws IndexOutOfBoundsException if the position is invalid
+         */
+        public int get(int position) {
+            if (position < 0 || position >= length) {
+                throw new IndexOutOfBoundsException(position);
+            }
+            return store.data.get(offset + position);
+        }
+
+        /**
+         * {@return the first position of the given integer in the viewed list, or -1 if it is not contained}
+         *
+         * @param integer the integer
+         */
+        public int indexOf(int integer) {
+            final IntBuffer data = store.data;
+            for (int i = 0; i < length; i++) {
+                if (data.get(offset + i) == integer) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * {@return whether the viewed list contains the given integer}
+         *
+         * @param integer the integer
+         */
+        public boolean contains(int integer) {
+            return indexOf(integer) >= 0;
+        }
+
+        /**
+         * {@return a copy of the integers of the viewed list} The returned array may be modified.
+         */
+        public int[] copyInts() {
+            final int[] integers = new int[length];
+            store.data.get(offset, integers);
+            return integers;
+        }
+
+        /**
+         * {@return a new integer list containing a copy of the integers of the viewed list}
+         */
+        public IntegerList toIntegerList() {
+            return new IntegerList(copyInts());
+        }
+
+        /**
+         * {@return the integers of the viewed list as a stream}
+         */
+        public IntStream stream() {
+            final IntBuffer data = store.data;
+            final int start = offset;
+            return IntStream.range(start, start + length).map(data::get);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(copyInts());
+        }
+    }
+
+    private IntBuffer data;
+    private IntBuffer offsets;
+    private int size;
+    private final boolean readOnly;
+
+    /**
+     * Creates an empty store.
+     */
+    public IntegerListStore() {
+        this(16, 64);
+    }
+
+    /**
+     * Creates an empty store that can hold the given number of lists and integers without resizing.
+     *
+     * @param listCapacity the initial capacity for lists
+     * @param integerCapacity the initial capacity for integers
+     */
+    public IntegerListStore(int listCapacity, int integerCapacity) {
+        data = IntBuffer.allocate(Math.max(integerCapacity, 1));
+        offsets = IntBuffer.allocate(Math.max(listCapacity, 1) + 1);
+        readOnly = false;
+    }
+
+    private IntegerListStore(IntBuffer data, IntBuffer offsets, int size) {
+        this.data = data;
+        this.offsets = offsets;
+        this.size = size;
+        readOnly = true;
+    }
+
+    /**
+     * Maps a store previously written with {@link #write(Path)} into memory.
+     * The integers are not copied onto the heap, but read from the file on demand.
+     * The returned store is read-only.
+     *
+     * @param path the path
+     * @return the mapped store
+     * @throws IOException if an I/O error occurs or the file is malformed
+     */
+    public static IntegerListStore map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final IntBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .asIntBuffer();
+            final int size = buffer.get(0);
+            if (size < 0 || buffer.limit() < size + 2) {
+                throw new IOException("malformed integer list store " + path);
+            }
+            final IntBuffer offsets = buffer.slice(1, size + 1);
+            final int integerCount = offsets.get(size);
+            if (integerCount < 0 || buffer.limit() != size + 2 + integerCount) {
+                throw new IOException("malformed integer list store " + path);
+            }
+            return new IntegerListStore(buffer.slice(size + 2, integerCount), offsets, size);
+        }
+    }
+
+    /**
+     * Writes this store to a file, which can be mapped into memory with {@link #map(Path)}.
+     *
+     * @param path the path
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer byteBuffer = ByteBuffer.allocate(1 << 16);
+            final IntBuffer intBuffer = byteBuffer.asIntBuffer();
+            intBuffer.put(size);
+            writeInts(channel, byteBuffer, intBuffer, offsets, size + 1);
+            writeInts(channel, byteBuffer, intBuffer, data, getIntegerCount());
+            flush(channel, byteBuffer, intBuffer);
+        }
+    }
+
+    private static void writeInts(
+            FileChannel channel, ByteBuffer byteBuffer, IntBuffer intBuffer, IntBuffer source, int length)
+            throws IOException {
+        for (int i = 0; i < length; ) {
+            if (!intBuffer.hasRemaining()) {
+                flush(channel, byteBuffer, intBuffer);
+            }
+            final int count = Math.min(intBuffer.remaining(), length - i);
+            intBuffer.put(source.slice(i, count));
+            i += count;
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer byteBuffer, IntBuffer intBuffer) throws IOException {
+        byteBuffer.position(0).limit(intBuffer.position() * Integer.BYTES);
+        while (byteBuffer.hasRemaining()) {
+            channel.write(byteBuffer);
+        }
+        byteBuffer.clear();
+        intBuffer.clear();
+    }
+
+    /**
+     * Appends a list of integers to this store.
+     * The integers are copied.
+     *
+     * @param integers the integers
+     * @return the index of the new list
+     * @throws UnsupportedOperationException if this store is read-only
+     */
+    public int add(int... integers) {
+        return add(integers, 0, integers.length);
+    }
+
+    /**
+     * Appends the integers of an integer list to this store.
+     * The integers are copied.
+     *
+     * @param integerList the integer list
+     * @return the index of the new list
+     * @throws UnsupportedOperationException if this store is read-only
+     */
+    public int add(IntegerList integerList) {
+        return add(integerList.elements, 0, integerList.elements.length);
+    }
+
+    /**
+     * Appends a range of an array of integers as a new list to this store.
+     * The integers are copied.
+     *
+     * @param integers the integers
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the index of the new list
+     * @throws UnsupportedOperationException if this store is read-only
+     */
+    public int add(int[] integers, int start, int end) {
+        if (readOnly) {
+            throw new UnsupportedOperationException("store is read-only");
+        }
+        final int length = end - start;
+        final int integerCount = getIntegerCount();
+        if (integerCount + length > data.capacity()) {
+            data = grow(data, (long) integerCount + length);
+        }
+        if (size + 2 > offsets.capacity()) {
+            offsets = grow(offsets, size + 2L);
+        }
+        data.put(integerCount, integers, start, length);
+        offsets.put(size + 1, integerCount + length);
+        return size++;
+    }
+
+    private static IntBuffer grow(IntBuffer buffer, long minCapacity) {
+        if (minCapacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("integer list store is full");
+        }
+        final int newCapacity = (int) Math.min(Integer.MAX_VALUE, Math.max(minCapacity, (long) buffer.capacity() << 1));
+        return IntBuffer.wrap(Arrays.copyOf(buffer.array(), newCapacity));
+    }
+
+    /**
+     * {@return the number of lists in this store}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return whether this store contains no lists}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@return the total number of integers in this store}
+     */
+    public int getIntegerCount() {
+        return offsets.get(size);
+    }
+
+    /**
+     * {@return whether this store is read-only}
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * {@return the number of integers in the list at the given index}
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int size(int index) {
+        checkIndex(index);
+        return offsets.get(index + 1) - offsets.get(index);
+    }
+
+    /**
+     * {@return the integer at the given position of the list at the given index}
+     *
+     * @param index the index
+     * @param position the position
+     * @throws IndexOutOfBoundsException if the index or the position is invalid
+     */
+    public int get(int index, int position) {
+        checkIndex(index);
+        final int offset = offsets.get(index);
+        if (position < 0 || position >= offsets.get(index + 1) - offset) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        return data.get(offset + position);
+    }
+
+    /**
+     * {@return a new flyweight view of the list at the given index}
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public View view(int index) {
+        checkIndex(index);
+        return new View(this).moveTo(index);
+    }
+
+    /**
+     * {@return a copy of the integers of the list at the given index} The returned array may be modified.
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int[] copyInts(int index) {
+        return view(index).copyInts();
+    }
+
+    /**
+     * {@return a new integer list containing a copy of the integers of the list at the given index}
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public IntegerList getIntegerList(int index) {
+        return new IntegerList(copyInts(index));
+    }
+
+    /**
+     * {@return an iterator over all lists in this store}
+     * To avoid allocations, the iterator returns the same {@link View} instance for each list.
+     */
+    @Override
+    public Iterator<View> iterator() {
+        final View view = new View(this);
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public View next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return view.moveTo(index++);
+            }
+        };
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
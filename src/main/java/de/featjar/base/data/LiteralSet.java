@@ -0,0 +1,353 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+/**
+ * A set of literals, that is, non-zero integers whose sign indicates whether a variable is selected (positive) or
+ * deselected (negative).
+ * Complements {@link IntegerList} by storing positive and negative literals in two bitsets indexed by variable.
+ * Thus, membership tests take constant time and union, intersection, and difference work on 64 literals at once.
+ * Best suited for dense sets over a bounded number of variables,
+ * as memory is proportional to the largest contained variable.
+ */
+public class LiteralSet implements Serializable {
+
+    private static final long serialVersionUID = -2785196539464925346L;
+
+    private final BitSet positive;
+    private final BitSet negative;
+
+    /**
+     * Creates an empty literal set.
+     */
+    public LiteralSet() {
+        positive = new BitSet();
+        negative = new BitSet();
+    }
+
+    /**
+     * Creates an empty literal set that can hold all literals up to the given variable without resizing.
+     *
+     * @param variableCount the maximum expected variable
+     */
+    public LiteralSet(int variableCount) {
+        positive = new BitSet(variableCount + 1);
+        negative = new BitSet(variableCount + 1);
+    }
+
+    /**
+     * Creates a new literal set by copying a given literal set.
+     *
+     * @param literalSet the literal set
+     */
+    public LiteralSet(LiteralSet literalSet) {
+        positive = (BitSet) literalSet.positive.clone();
+        negative = (BitSet) literalSet.negative.clone();
+    }
+
+    /**
+     * {@return a new literal set containing the given literals}
+     *
+     * @param literals the literals
+     * @throws IllegalArgumentException if any literal is zero or {@link Integer#MIN_VALUE}
+     */
+    public static LiteralSet of(int... literals) {
+        final LiteralSet literalSet = new LiteralSet();
+        for (int literal : literals) {
+            literalSet.add(literal);
+        }
+        return literalSet;
+    }
+
+    /**
+     * {@return a new literal set containing the integers of the given integer list}
+     *
+     * @param integerList the integer list
+     * @throws IllegalArgumentException if any integer is zero or {@link Integer#MIN_VALUE}
+     */
+    public static LiteralSet of(IntegerList integerList) {
+        return of(integerList.elements);
+    }
+
+    /**
+     * {@return a new literal set containing the integers of the given expandable integer list}
+     *
+     * @param integerList the expandable integer list
+     * @throws IllegalArgumentException if any integer is zero or {@link Integer#MIN_VALUE}
+     */
+    public static LiteralSet of(ExpandableIntegerList integerList) {
+        final LiteralSet literalSet = new LiteralSet();
+        final int[] elements = integerList.getInternalArray();
+        for (int i = 0; i < integerList.size(); i++) {
+            literalSet.add(elements[i]);
+        }
+        return literalSet;
+    }
+
+    /**
+     * Adds a literal to this set.
+     *
+     * @param literal the literal
+     * @return whether this set changed
+     * @throws IllegalArgumentException if the literal is zero or {@link Integer#MIN_VALUE}
+     */
+    public boolean add(int literal) {
+        final BitSet bitSet = getBitSet(literal);
+        final int variable = Math.abs(literal);
+        if (bitSet.get(variable)) {
+            return false;
+        }
+        bitSet.set(variable);
+        return true;
+    }
+
+    /**
+     * Removes a literal from this set.
+     *
+     * @param literal the literal
+     * @return whether this set changed
+     * @throws IllegalArgumentException if the literal is zero or {@link Integer#MIN_VALUE}
+     */
+    public boolean remove(int literal) {
+        final BitSet bitSet = getBitSet(literal);
+        final int variable = Math.abs(literal);
+        if (!bitSet.get(variable)) {
+            return false;
+        }
+        bitSet.clear(variable);
+        return true;
+    }
+
+    /**
+     * Removes all literals from this set.
+     */
+    public void clear() {
+        positive.clear();
+        negative.clear();
+    }
+
+    /**
+     * {@return whether this set contains the given literal}
+     *
+     * @param literal the literal
+     */
+    public boolean contains(int literal) {
+        return literal > 0
+                ? positive.get(literal)
+                : literal < 0 && literal != Integer.MIN_VALUE && negative.get(-literal);
+    }
+
+    /**
+     * {@return whether this set contains the negation of the given literal}
+     *
+     * @param literal the literal
+     */
+    public boolean containsNegated(int literal) {
+        return contains(-literal);
+    }
+
+    /**
+     * {@return whether this set contains a positive or negative literal of the given variable}
+     *
+     * @param variable the variable
+     */
+    public boolean containsVariable(int variable) {
+        return variable > 0 && (positive.get(variable) || negative.get(variable));
+    }
+
+    /**
+     * {@return whether this set contains all literals of the given set}
+     *
+     * @param other the other set
+     */
+    public boolean containsAll(LiteralSet other) {
+        return isSubset(other.positive, positive) && isSubset(other.negative, negative);
+    }
+
+    /**
+     * {@return whether this set contains any literal of the given set}
+     *
+     * @param other the other set
+     */
+    public boolean containsAny(LiteralSet other) {
+        return positive.intersects(other.positive) || negative.intersects(other.negative);
+    }
+
+    /**
+     * {@return whether this set contains the negation of any literal of the given set}
+     *
+     * @param other the other set
+     */
+    public boolean containsAnyNegated(LiteralSet other) {
+        return positive.intersects(other.negative) || negative.intersects(other.positive);
+    }
+
+    /**
+     * {@return whether this set contains a literal and its negation}
+     */
+    public boolean hasConflicts() {
+        return positive.intersects(negative);
+    }
+
+    /**
+     * Adds all literals of the given set to this set.
+     *
+     * @param other the other set
+     */
+    public void addAll(LiteralSet other) {
+        positive.or(other.positive);
+        negative.or(other.negative);
+    }
+
+    /**
+     * Removes all literals from this set that are not contained in the given set.
+     *
+     * @param other the other set
+     */
+    public void retainAll(LiteralSet other) {
+        positive.and(other.positive);
+        negative.and(other.negative);
+    }
+
+    /**
+     * Removes all literals from this set that are contained in the given set.
+     *
+     * @param other the other set
+     */
+    public void removeAll(LiteralSet other) {
+        positive.andNot(other.positive);
+        negative.andNot(other.negative);
+    }
+
+    /**
+     * {@return a new literal set containing the negated literals of this set}
+     */
+    public LiteralSet negate() {
+        final LiteralSet negatedSet = new LiteralSet();
+        negatedSet.positive.or(negative);
+        negatedSet.negative.or(positive);
+        return negatedSet;
+    }
+
+    /**
+     * {@return the number of literals in this set}
+     */
+    public int size() {
+        return positive.cardinality() + negative.cardinality();
+    }
+
+    /**
+     * {@return whether this set is empty}
+     */
+    public boolean isEmpty() {
+        return positive.isEmpty() && negative.isEmpty();
+    }
+
+    /**
+     * {@return the number of positive literals in this set}
+     */
+    public int countPositives() {
+        return positive.cardinality();
+    }
+
+    /**
+     * {@return the number of negative literals in this set}
+     */
+    public int countNegatives() {
+        return negative.cardinality();
+    }
+
+    /**
+     * {@return the literals of this set in ascending order} The returned array may be modified.
+     */
+    public int[] toArray() {
+        final int[] literals = new int[size()];
+        int i = 0;
+        for (int variable = negative.length() - 1; variable > 0; variable = negative.previousSetBit(variable - 1)) {
+            literals[i++] = -variable;
+        }
+        for (int variable = positive.nextSetBit(1); variable >= 0; variable = positive.nextSetBit(variable + 1)) {
+            literals[i++] = variable;
+        }
+        return literals;
+    }
+
+    /**
+     * {@return a stream of the literals of this set in ascending order}
+     */
+    public IntStream stream() {
+        return IntStream.of(toArray());
+    }
+
+    /**
+     * {@return a new integer list containing the literals of this set in ascending order}
+     */
+    public IntegerList toIntegerList() {
+        return new IntegerList(toArray());
+    }
+
+    /**
+     * {@return a new expandable integer list containing the literals of this set in ascending order}
+     */
+    public ExpandableIntegerList toExpandableIntegerList() {
+        return new ExpandableIntegerList(toArray());
+    }
+
+    private BitSet getBitSet(int literal) {
+        if (literal == 0 || literal == Integer.MIN_VALUE) {
+            throw new IllegalArgumentException(String.format("invalid literal %d", literal));
+        }
+        return literal > 0 ? positive : negative;
+    }
+
+    private static boolean isSubset(BitSet subset, BitSet superset) {
+        final BitSet difference = (BitSet) subset.clone();
+        difference.andNot(superset);
+        return difference.isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * positive.hashCode() + negative.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj == null) || (getClass() != obj.getClass())) {
+            return false;
+        }
+        final LiteralSet other = (LiteralSet) obj;
+        return positive.equals(other.positive) && negative.equals(other.negative);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -21,7 +21,13 @@
 package de.featjar.base.data;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * A name consisting of a name space and a local name.
+ * Names can be {@link #of(String, String) interned}, so that equal names obtained this way are identical,
+ * which allows for cheap comparisons and avoids allocating new names in frequently executed code.
+ */
 public class Name implements Comparable<Name> {
     /**
      * The default name space for attributes.
@@ -29,8 +35,39 @@ public class Name implements Comparable<Name> {
      */
     public static final String DEFAULT_NAMESPACE = Name.class.getPackageName();
 
+    private static final ConcurrentHashMap<String, ConcurrentHashMap<String, Name>> internedNames =
+            new ConcurrentHashMap<>();
+
     private final String namespace;
     private final String name;
+    private final int hashCode;
+
+    /**
+     * {@return the canonical name with the {@link #DEFAULT_NAMESPACE default name space} and the given name}
+     *
+     * @param name the name
+     */
+    public static Name of(String name) {
+        return of(DEFAULT_NAMESPACE, name);
+    }
+
+    /**
+     * {@return the canonical name with the given name space and name}
+     * Repeated calls with equal arguments return the identical instance and, after the first call, do not allocate.
+     * This method is thread-safe and does not block for names that are already interned.
+     * Interned names are never released, so this should not be used for an unbounded number of distinct names.
+     *
+     * @param namespace the name space
+     * @param name the name
+     */
+    public static Name of(String namespace, String name) {
+        ConcurrentHashMap<String, Name> names = internedNames.get(namespace);
+        if (names == null) {
+            names = internedNames.computeIfAbsent(Objects.requireNonNull(namespace), k -> new ConcurrentHashMap<>());
+        }
+        final Name internedName = names.get(name);
+        return internedName != null ? internedName : names.computeIfAbsent(name, k -> new Name(namespace, k));
+    }
 
     /**
      * Constructs a new name with the {@link #DEFAULT_NAMESPACE default name space}.
@@ -48,6 +85,16 @@ public class Name implements Comparable<Name> {
     public Name(String namespace, String name) {
         this.namespace = Objects.requireNonNull(namespace);
         this.name = Objects.requireNonNull(name);
+        hashCode = 31 * namespace.hashCode() + name.hashCode();
+    }
+
+    /**
+     * {@return the canonical instance of this name}
+     *
+     * @see #of(String, String)
+     */
+    public Name intern() {
+        return of(namespace, name);
     }
 
     public String getNamespace() {
@@ -72,12 +119,14 @@ public class Name implements Comparable<Name> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Name attribute = (Name) o;
-        return namespace.equals(attribute.namespace) && name.equals(attribute.name);
+        return hashCode == attribute.hashCode
+                && namespace.equals(attribute.namespace)
+                && name.equals(attribute.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(namespace, name);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,283 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Maps objects to primitive integers without boxing.
+ * Uses open addressing with linear probing on a table of entry indices,
+ * while the entries themselves are stored in insertion order.
+ * Thus, like {@link java.util.LinkedHashMap}, iteration is deterministic and follows insertion order.
+ * Keys are compared with {@link Object#equals(Object)} and must not be {@code null}.
+ *
+ * @param <T> the type of the keys
+ */
+public class ObjectIntMap<T> {
+
+    private static final int MINIMUM_CAPACITY = 8;
+
+    private Object[] keys;
+    private int[] values;
+    private int[] hashes;
+    private int entryCount;
+    private int size;
+
+    private int[] table;
+    private int mask;
+
+    /**
+     * Creates an empty map.
+     */
+    public ObjectIntMap() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that can hold the given number of keys without resizing.
+     *
+     * @param expectedSize the expected number of keys
+     */
+    public ObjectIntMap(int expectedSize) {
+        allocate(Math.max(expectedSize, MINIMUM_CAPACITY));
+    }
+
+    static int mix(int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int tableCapacity(int entryCapacity) {
+        return Integer.highestOneBit(Math.max(entryCapacity, MINIMUM_CAPACITY) * 2 - 1) << 1;
+    }
+
+    private void allocate(int entryCapacity) {
+        keys = new Object[entryCapacity];
+        values = new int[entryCapacity];
+        hashes = new int[entryCapacity];
+        table = new int[tableCapacity(entryCapacity)];
+        mask = table.length - 1;
+    }
+
+    private int findSlot(Object key, int hash) {
+        int slot = hash & mask;
+        while (true) {
+            final int entry = table[slot] - 1;
+            if (entry < 0) {
+                return -slot - 1;
+            }
+            final Object entryKey = keys[entry];
+            if (entryKey == key || (hashes[entry] == hash && key.equals(entryKey))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * {@return the value mapped to the given key, or the given missing value if the key is not mapped}
+     *
+     * @param key the key
+     * @param missingValue the value to return if the key is not mapped
+     */
+    public int get(Object key, int missingValue) {
+        if (key == null) {
+            return missingValue;
+        }
+        final int slot = findSlot(key, mix(key.hashCode()));
+        return slot >= 0 ? values[table[slot] - 1] : missingValue;
+    }
+
+    /**
+     * {@return whether the given key is mapped}
+     *
+     * @param key the key
+     */
+    public boolean containsKey(Object key) {
+        return key != null && findSlot(key, mix(key.hashCode())) >= 0;
+    }
+
+    /**
+     * Maps a key to a value.
+     * If the key is already mapped, its value is replaced and its position in the iteration order is kept.
+     *
+     * @param key the key
+     * @param value the value
+     * @return whether the key was not mapped before
+     */
+    public boolean put(T key, int value) {
+        Objects.requireNonNull(key);
+        final int hash = mix(key.hashCode());
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            values[table[slot] - 1] = value;
+            return false;
+        }
+        if (entryCount == keys.length) {
+            rebuild(size + 1);
+            slot = findSlot(key, hash);
+        }
+        keys[entryCount] = key;
+        values[entryCount] = value;
+        hashes[entryCount] = hash;
+        table[-slot - 1] = ++entryCount;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the mapping of a key.
+     *
+     * @param key the key
+     * @return whether the key was mapped before
+     */
+    public boolean remove(Object key) {
+        if (key == null) {
+            return false;
+        }
+        final int slot = findSlot(key, mix(key.hashCode()));
+        if (slot < 0) {
+            return false;
+        }
+        final int entry = table[slot] - 1;
+        keys[entry] = null;
+        if (entry == entryCount - 1) {
+            entryCount--;
+        }
+        size--;
+        deleteSlot(slot);
+        return true;
+    }
+
+    private void deleteSlot(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (table[next] != 0) {
+            final int ideal = hashes[table[next] - 1] & mask;
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                table[gap] = table[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[gap] = 0;
+    }
+
+    private void rebuild(int minimumSize) {
+        final Object[] oldKeys = keys;
+        final int[] oldValues = values;
+        final int[] oldHashes = hashes;
+        final int oldEntryCount = entryCount;
+        allocate(Math.max(MINIMUM_CAPACITY, minimumSize + (minimumSize >> 1)));
+        entryCount = 0;
+        for (int i = 0; i < oldEntryCount; i++) {
+            if (oldKeys[i] != null) {
+                keys[entryCount] = oldKeys[i];
+                values[entryCount] = oldValues[i];
+                hashes[entryCount] = oldHashes[i];
+                int slot = oldHashes[i] & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = ++entryCount;
+            }
+        }
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0, entryCount, null);
+        Arrays.fill(table, 0);
+        entryCount = 0;
+        size = 0;
+    }
+
+    /**
+     * {@return the number of mapped keys}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return whether no key is mapped}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Passes each mapping to the given consumer in insertion order.
+     *
+     * @param consumer the consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjIntConsumer<? super T> consumer) {
+        for (int i = 0; i < entryCount; i++) {
+            if (keys[i] != null) {
+                consumer.accept((T) keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * {@return an unmodifiable list of all mapped keys in insertion order}
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> keys() {
+        final Object[] keyArray = new Object[size];
+        int j = 0;
+        for (int i = 0; i < entryCount; i++) {
+            if (keys[i] != null) {
+                keyArray[j++] = keys[i];
+            }
+        }
+        return Collections.unmodifiableList((List<T>) Arrays.asList(keyArray));
+    }
+
+    /**
+     * {@return all mapped values in insertion order of their keys} The returned array may be modified.
+     */
+    public int[] values() {
+        final int[] valueArray = new int[size];
+        int j = 0;
+        for (int i = 0; i < entryCount; i++) {
+            if (keys[i] != null) {
+                valueArray[j++] = values[i];
+            }
+        }
+        return valueArray;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach((key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+}
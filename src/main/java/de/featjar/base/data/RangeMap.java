@@ -22,6 +22,7 @@ package de.featjar.base.data;
 
 import de.featjar.base.log.IndentFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -49,6 +50,14 @@ import java.util.stream.Stream;
  */
 public class RangeMap<T> implements Cloneable {
 
+    /**
+     * Minimum number of indices for which {@link #remap(int[], int[], RangeMap, boolean)} caches adapted indices
+     * instead of looking up each index separately.
+     * Adapted indices are cached in a table if the indices cover a large part of this map, and in an
+     * {@link IntIntMap} otherwise.
+     */
+    private static final int REMAPPING_TABLE_THRESHOLD = 64;
+
     /**
      * Indexed list of all elements.
      */
@@ -56,9 +65,19 @@ public class RangeMap<T> implements Cloneable {
 
     /**
      * Element to index map.
+     * Kept for compatibility with subclasses, lookups use a primitive map that is updated together with this map.
+     * Thus, this map must not be modified directly.
+     *
+     * @deprecated use {@link #indexOf(Object)} or {@link #entryStream()} instead
      */
+    @Deprecated
     protected final LinkedHashMap<T, Integer> objectToIndex = Maps.empty();
 
+    /**
+     * Element to index map used for lookups, which does not box indices.
+     */
+    private final ObjectIntMap<T> indexLookup = new ObjectIntMap<>();
+
     /**
      * Creates an empty range map.
      */
@@ -106,7 +125,7 @@ public class RangeMap<T> implements Cloneable {
      * {@return the number of mapped objects}
      */
     public int size() {
-        return objectToIndex.size();
+        return indexLookup.size();
     }
 
     /**
@@ -144,7 +163,7 @@ public class RangeMap<T> implements Cloneable {
      * @param index the index
      */
     protected boolean isValidIndex(int index) {
-        return getValidIndexRange().map(range -> range.test(index)).orElse(false);
+        return index > 0 && index < indexToObject.size();
     }
 
     /**
@@ -162,7 +181,7 @@ public class RangeMap<T> implements Cloneable {
      * @param object the object
      */
     public boolean has(T object) {
-        return object != null && objectToIndex.containsKey(object);
+        return indexLookup.containsKey(object);
     }
 
     /**
@@ -179,6 +198,8 @@ public class RangeMap<T> implements Cloneable {
                 indexToObject.set(index, newObject);
                 objectToIndex.remove(object);
                 objectToIndex.put(newObject, index);
+                indexLookup.remove(object);
+                indexLookup.put(newObject, index);
             } else {
                 throw new NoSuchElementException(String.valueOf(index));
             }
@@ -196,11 +217,13 @@ public class RangeMap<T> implements Cloneable {
     public void setNewObject(T oldObject, T newObject) {
         Objects.requireNonNull(oldObject);
         Objects.requireNonNull(newObject);
-        Integer index = objectToIndex.get(oldObject);
-        if (index != null) {
+        int index = indexLookup.get(oldObject, -1);
+        if (index >= 0) {
             indexToObject.set(index, newObject);
             objectToIndex.remove(oldObject);
             objectToIndex.put(newObject, index);
+            indexLookup.remove(oldObject);
+            indexLookup.put(newObject, index);
         } else {
             throw new NoSuchElementException(String.valueOf(oldObject));
         }
@@ -219,17 +242,18 @@ public class RangeMap<T> implements Cloneable {
         if (index < -1 || index == 0) {
             throw new IllegalArgumentException("index is invalid");
         } else if (index == -1) {
-            index = getMaximumIndex().map(i -> i + 1).orElse(1);
+            index = indexToObject.size();
         } else if (isValidIndex(index) && indexToObject.get(index) != null) {
             throw new IllegalArgumentException("element with the index " + index + " already mapped");
         }
-        if (objectToIndex.containsKey(object)) {
+        if (indexLookup.containsKey(object)) {
             throw new IllegalArgumentException("element with the object " + object + " already mapped");
         }
-        for (int i = getMaximumIndex().orElse(0); i < index; i++) {
+        for (int i = maxIndex(); i < index; i++) {
             indexToObject.add(null);
         }
         objectToIndex.put(object, index);
+        indexLookup.put(object, index);
         indexToObject.set(index, object);
         return index;
     }
@@ -264,14 +288,15 @@ public class RangeMap<T> implements Cloneable {
      * @return whether the object was removed from this range map
      */
     public boolean remove(T object) {
-        Integer index = objectToIndex.get(object);
-        if (index != null) {
-            if (index.equals(getMaximumIndex().get())) {
-                indexToObject.remove(index.intValue());
+        int index = indexLookup.get(object, -1);
+        if (index >= 0) {
+            if (index == maxIndex()) {
+                indexToObject.remove(index);
             } else {
                 indexToObject.set(index, null);
             }
             objectToIndex.remove(object);
+            indexLookup.remove(object);
             return true;
         } else {
             return false;
@@ -289,8 +314,9 @@ public class RangeMap<T> implements Cloneable {
             T object = indexToObject.get(index);
             if (object != null) {
                 objectToIndex.remove(object);
+                indexLookup.remove(object);
             }
-            if (index == getMaximumIndex().get()) {
+            if (index == maxIndex()) {
                 indexToObject.remove(index);
             } else {
                 indexToObject.set(index, null);
@@ -316,7 +342,12 @@ public class RangeMap<T> implements Cloneable {
      * @param rangeMap the range map
      */
     public boolean containsAllObjects(RangeMap<T> rangeMap) {
-        return objectToIndex.keySet().containsAll(rangeMap.objectToIndex.keySet());
+        for (T object : rangeMap.objectToIndex.keySet()) {
+            if (!indexLookup.containsKey(object)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -352,16 +383,85 @@ public class RangeMap<T> implements Cloneable {
     /**
      * {@return an unmodifiable list of the objects mapped to the given list of indices}
      * The objects are in the same order as the given indices, but the list does not contain a object for any invalid index.
+     * Negative indices are mapped according to their absolute value.
      * @param indices the list of indices
      * @param includeGaps if {@code true} and any given index is invalid, the returned list contains {@code null} at this position.
      */
     public List<T> getObjects(IntegerList indices, boolean includeGaps) {
-        return (includeGaps
-                        ? indices.stream().mapToObj(i -> isValidIndex(Math.abs(i)) ? indexToObject.get(i) : null)
-                        : indices.stream()
-                                .filter(i -> isValidIndex(Math.abs(i)))
-                                .mapToObj(i -> indexToObject.get(i)))
-                .collect(Collectors.toUnmodifiableList());
+        return getObjects(indices.elements, includeGaps);
+    }
+
+    /**
+     * {@return an unmodifiable list of the objects mapped to the given array of indices}
+     * The objects are in the same order as the given indices, but the list does not contain a object for any invalid index.
+     * Negative indices are mapped according to their absolute value.
+     * @param indices the array of indices
+     * @param includeGaps if {@code true} and any given index is invalid, the returned list contains {@code null} at this position.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getObjects(int[] indices, boolean includeGaps) {
+        Object[] objects = new Object[indices.length];
+        int size = 0;
+        for (int index : indices) {
+            final T object = getObject(Math.abs(index));
+            if (object != null || includeGaps) {
+                objects[size++] = object;
+            }
+        }
+        if (size < objects.length) {
+            objects = Arrays.copyOf(objects, size);
+        }
+        return Collections.unmodifiableList((List<T>) Arrays.asList(objects));
+    }
+
+    /**
+     * {@return the object an index is mapped to by this range map, or {@code null} if the index is not mapped}
+     * Unlike {@link #get(int)}, this method does not allocate, so it is suited for hot loops.
+     *
+     * @param index the index
+     */
+    public T getObject(int index) {
+        return isValidIndex(index) ? indexToObject.get(index) : null;
+    }
+
+    /**
+     * {@return the index an object is mapped to by this range map, or -1 if the object is not mapped}
+     * Unlike {@link #get(Object)}, this method does not allocate, so it is suited for hot loops.
+     *
+     * @param object the object
+     */
+    public int indexOf(T object) {
+        return indexLookup.get(object, -1);
+    }
+
+    /**
+     * {@return the indices the given objects are mapped to by this range map}
+     * The indices are in the same order as the given objects and -1 for any object that is not mapped.
+     *
+     * @param objects the objects
+     */
+    public int[] indicesOf(Collection<? extends T> objects) {
+        final int[] indices = new int[objects.size()];
+        int i = 0;
+        for (T object : objects) {
+            indices[i++] = indexLookup.get(object, -1);
+        }
+        return indices;
+    }
+
+    /**
+     * Translates an array of indices to the objects they are mapped to by this range map.
+     * Caller must ensure that {@code objects} is at least as large as {@code indices}.
+     * Negative indices are mapped according to their absolute value, and {@code null} is stored for any index that
+     * is not mapped.
+     *
+     * @param indices the indices
+     * @param objects the space for the objects
+     */
+    public void getObjects(int[] indices, T[] objects) {
+        for (int i = 0; i < indices.length; i++) {
+            objects[i] = getObject(Math.abs(indices[i]));
+        }
     }
 
     /**
@@ -381,14 +481,22 @@ public class RangeMap<T> implements Cloneable {
      * @param object the object
      */
     public Result<Integer> get(T object) {
-        return Result.ofNullable(objectToIndex.get(object));
+        final int index = indexLookup.get(object, -1);
+        return index >= 0 ? Result.of(index) : Result.empty();
     }
 
     /**
      * {@return an unmodifiable list of all indices in this maps}
      */
     public List<Integer> getIndices() {
-        return entryStream().map(e -> e.getValue()).collect(Collectors.toUnmodifiableList());
+        return List.copyOf(objectToIndex.values());
+    }
+
+    /**
+     * {@return all indices in this map, in the same order as {@link #getIndices()}}
+     */
+    public IntegerList getIndexList() {
+        return new IntegerList(indexLookup.values());
     }
 
     /**
@@ -438,7 +546,10 @@ public class RangeMap<T> implements Cloneable {
      * @param objects a list of objects
      */
     public Stream<Integer> stream(Collection<T> objects) {
-        return objects.stream().map(objectToIndex::get);
+        return objects.stream().map(object -> {
+            final int index = indexLookup.get(object, -1);
+            return index >= 0 ? index : null;
+        });
     }
 
     /**
@@ -446,19 +557,21 @@ public class RangeMap<T> implements Cloneable {
      */
     public void clear() {
         objectToIndex.clear();
+        indexLookup.clear();
         indexToObject.clear();
         indexToObject.add(null);
     }
 
     private void updateObjectToIndex() {
         if (!isEmpty()) {
-            int min = getMinimumIndex().get();
-            int max = getMaximumIndex().get();
+            final int max = maxIndex();
             objectToIndex.clear();
-            for (int i = min; i <= max; i++) {
+            indexLookup.clear();
+            for (int i = 1; i <= max; i++) {
                 T object = indexToObject.get(i);
                 if (object != null) {
                     objectToIndex.put(object, i);
+                    indexLookup.put(object, i);
                 }
             }
         }
@@ -471,10 +584,7 @@ public class RangeMap<T> implements Cloneable {
      */
     public void randomize(Random random) {
         if (!isEmpty()) {
-            Collections.shuffle(
-                    indexToObject.subList(
-                            getMinimumIndex().get(), getMaximumIndex().get()),
-                    random);
+            Collections.shuffle(indexToObject.subList(1, maxIndex()), random);
             updateObjectToIndex();
         }
     }
@@ -503,7 +613,7 @@ public class RangeMap<T> implements Cloneable {
      * {@return whether this map contains no elements}
      */
     public boolean isEmpty() {
-        return getValidIndexRange().isEmpty();
+        return indexToObject.size() == 1;
     }
 
     @Override
@@ -545,11 +655,81 @@ public class RangeMap<T> implements Cloneable {
      * @param integrateOldObjects if {@code true} objects that do not occur in {@code newMap} are added to it, otherwise an exception is thrown in this case.
      */
     public void remap(int[] oldIndices, int[] newIndices, RangeMap<T> newMap, boolean integrateOldObjects) {
-        for (int i = 0; i < oldIndices.length; i++) {
-            newIndices[i] = remap(oldIndices[i], newMap, integrateOldObjects);
+        if (oldIndices.length < REMAPPING_TABLE_THRESHOLD) {
+            for (int i = 0; i < oldIndices.length; i++) {
+                newIndices[i] = remap(oldIndices[i], newMap, integrateOldObjects);
+            }
+        } else if ((oldIndices.length << 3) < maxIndex()) {
+            final IntIntMap remapping = new IntIntMap(oldIndices.length);
+            for (int i = 0; i < oldIndices.length; i++) {
+                final int oldIndex = oldIndices[i];
+                final int absoluteIndex = Math.abs(oldIndex);
+                final int newIndex = remapping.get(absoluteIndex, 0);
+                if (newIndex != 0) {
+                    newIndices[i] = oldIndex < 0 ? -newIndex : newIndex;
+                } else {
+                    newIndices[i] = remap(oldIndex, newMap, integrateOldObjects);
+                    if (oldIndex != 0) {
+                        remapping.put(absoluteIndex, Math.abs(newIndices[i]));
+                    }
+                }
+            }
+        } else {
+            final int[] remapping = new int[indexToObject.size()];
+            for (int i = 0; i < oldIndices.length; i++) {
+                final int oldIndex = oldIndices[i];
+                final int absoluteIndex = Math.abs(oldIndex);
+                if (isValidIndex(absoluteIndex) && remapping[absoluteIndex] != 0) {
+                    newIndices[i] = oldIndex < 0 ? -remapping[absoluteIndex] : remapping[absoluteIndex];
+                } else {
+                    final int newIndex = remap(oldIndex, newMap, integrateOldObjects);
+                    if (oldIndex != 0) {
+                        remapping[absoluteIndex] = Math.abs(newIndex);
+                    }
+                    newIndices[i] = newIndex;
+                }
+            }
         }
     }
 
+    /**
+     * Adapts each element from {@code oldIndices} from its index in this map to its index in {@code newMap}.
+     * Indices may be negative. In this case, the absolute value is used for adapting the mapping and the return value will also be negative.
+     *
+     * @param oldIndices the indices to adapt
+     * @param newMap the range map to adapt to
+     * @param integrateOldObjects if {@code true} objects that do not occur in {@code newMap} are added to it, otherwise an exception is thrown in this case.
+     * @return a new integer list containing the adapted indices
+     */
+    public IntegerList remap(IntegerList oldIndices, RangeMap<T> newMap, boolean integrateOldObjects) {
+        final int[] newIndices = new int[oldIndices.size()];
+        remap(oldIndices.elements, newIndices, newMap, integrateOldObjects);
+        return new IntegerList(newIndices);
+    }
+
+    /**
+     * {@return a table that maps each index of this map to the index of the same object in {@code newMap}}
+     * The table has length {@code maxIndex() + 1} and contains 0 for unmapped indices.
+     * Thus, many arrays of indices can be adapted by array lookups, without accessing any object.
+     *
+     * @param newMap the range map to adapt to
+     * @param integrateOldObjects if {@code true} objects that do not occur in {@code newMap} are added to it, otherwise they are mapped to 0.
+     */
+    public int[] getRemapping(RangeMap<T> newMap, boolean integrateOldObjects) {
+        final int[] remapping = new int[indexToObject.size()];
+        for (int i = 1; i < remapping.length; i++) {
+            final T object = indexToObject.get(i);
+            if (object != null) {
+                int newIndex = newMap.indexLookup.get(object, -1);
+                if (newIndex < 0) {
+                    newIndex = integrateOldObjects ? newMap.add(object) : 0;
+                }
+                remapping[i] = newIndex;
+            }
+        }
+        return remapping;
+    }
+
     /**
      * Adapt {@code oldIndex} from its index in this map to its index in {@code newMap}.
      * The index may be negative. In this case, the absolute value is used for adapting the mapping and the return value will also be negative.
@@ -563,19 +743,16 @@ public class RangeMap<T> implements Cloneable {
         if (oldIndex == 0) {
             return 0;
         } else {
-            final Result<T> name = get(Math.abs(oldIndex));
-            if (name.isPresent()) {
-                T variableName = name.get();
-                final int newLiteral;
-                Result<Integer> index = newMap.get(variableName);
-                if (index.isEmpty()) {
+            final int absoluteIndex = Math.abs(oldIndex);
+            final T variableName = isValidIndex(absoluteIndex) ? indexToObject.get(absoluteIndex) : null;
+            if (variableName != null) {
+                int newLiteral = newMap.indexLookup.get(variableName, -1);
+                if (newLiteral < 0) {
                     if (integrateOldObject) {
                         newLiteral = newMap.add(variableName);
                     } else {
                         throw new IllegalArgumentException("No variable named " + variableName);
                     }
-                } else {
-                    newLiteral = index.get();
                 }
                 return oldIndex < 0 ? -newLiteral : newLiteral;
             } else {
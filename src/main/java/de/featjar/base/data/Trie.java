@@ -20,84 +20,373 @@
  */
 package de.featjar.base.data;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Basic implementation of a Trie data structure.
+ * Compact implementation of a Trie data structure (also known as radix tree).
+ * Chains of nodes with a single child are compressed into one edge.
+ * Edge labels are not copied, but refer to a range of one of the stored elements.
+ * Children are kept in sorted arrays, so elements can be enumerated in lexicographic order.
+ * Keys are accepted as {@link CharSequence} and are only converted to a {@link String} when they are stored.
  *
  * @author Sebastian Krieter
  */
 public class Trie {
 
-    private static class TrieNode {
-        LinkedHashMap<Character, TrieNode> children = new LinkedHashMap<>();
+    private static final class TrieNode {
+        private static final char[] NO_KEYS = new char[0];
+        private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+
+        /**
+         * Stored element that contains the label of this node in the range [labelStart, labelEnd).
+         * The range starts at the depth of the parent node, so any element below this node can serve as source.
+         */
+        String labelSource;
+
+        int labelStart;
+        int labelEnd;
+        char[] keys = NO_KEYS;
+        TrieNode[] children = NO_CHILDREN;
+        int childrenCount;
         String element;
+
+        TrieNode(String labelSource, int labelStart, int labelEnd) {
+            this.labelSource = labelSource;
+            this.labelStart = labelStart;
+            this.labelEnd = labelEnd;
+        }
+
+        int indexOf(char c) {
+            return Arrays.binarySearch(keys, 0, childrenCount, c);
+        }
+
+        TrieNode get(char c) {
+            final int index = indexOf(c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void insert(int index, char c, TrieNode child) {
+            if (childrenCount == keys.length) {
+                final int newLength = Math.max(2, childrenCount << 1);
+                keys = Arrays.copyOf(keys, newLength);
+                children = Arrays.copyOf(children, newLength);
+            }
+            System.arraycopy(keys, index, keys, index + 1, childrenCount - index);
+            System.arraycopy(children, index, children, index + 1, childrenCount - index);
+            keys[index] = c;
+            children[index] = child;
+            childrenCount++;
+        }
+
+        void remove(int index) {
+            childrenCount--;
+            System.arraycopy(keys, index + 1, keys, index, childrenCount - index);
+            System.arraycopy(children, index + 1, children, index, childrenCount - index);
+            children[childrenCount] = null;
+        }
+
+        void trim() {
+            if (childrenCount < keys.length) {
+                keys = Arrays.copyOf(keys, childrenCount);
+                children = Arrays.copyOf(children, childrenCount);
+            }
+        }
+
+        /**
+         * Merges the only child of this node into this node.
+         */
+        void mergeChild() {
+            final TrieNode child = children[0];
+            labelSource = child.labelSource;
+            labelEnd = child.labelEnd;
+            keys = child.keys;
+            children = child.children;
+            childrenCount = child.childrenCount;
+            element = child.element;
+        }
+    }
+
+    private final TrieNode root = new TrieNode("", 0, 0);
+    private int size;
+
+    /**
+     * Creates a trie containing the given elements, which must be sorted in lexicographic order.
+     * Takes time linear in the total length of all elements, as no lookups are needed during construction.
+     * Duplicate elements are ignored.
+     *
+     * @param sortedElements the sorted elements
+     * @return the trie
+     * @throws IllegalArgumentException if the elements are not sorted
+     */
+    public static Trie ofSorted(Iterable<? extends CharSequence> sortedElements) {
+        final List<String> elements = new ArrayList<>();
+        String previous = null;
+        for (CharSequence element : sortedElements) {
+            final String current = element.toString();
+            if (previous != null) {
+                final int comparison = previous.compareTo(current);
+                if (comparison > 0) {
+                    throw new IllegalArgumentException(
+                            String.format("elements not sorted: %s before %s", previous, current));
+                } else if (comparison == 0) {
+                    continue;
+                }
+            }
+            elements.add(current);
+            previous = current;
+        }
+        final Trie trie = new Trie();
+        trie.build(trie.root, elements.toArray(new String[0]), 0, elements.size(), 0);
+        trie.size = elements.size();
+        return trie;
+    }
+
+    private void build(TrieNode node, String[] elements, int from, int to, int depth) {
+        if (from < to && elements[from].length() == depth) {
+            node.element = elements[from++];
+        }
+        while (from < to) {
+            final char c = elements[from].charAt(depth);
+            int end = from + 1;
+            while (end < to && elements[end].charAt(depth) == c) {
+                end++;
+            }
+            final int labelEnd = depth + 1 + commonPrefixLength(elements[from], elements[end - 1], depth + 1);
+            final TrieNode child = new TrieNode(elements[from], depth, labelEnd);
+            node.insert(node.childrenCount, c, child);
+            build(child, elements, from, end, labelEnd);
+            from = end;
+        }
+        node.trim();
+    }
+
+    private static int commonPrefixLength(CharSequence s1, CharSequence s2, int start) {
+        final int length = Math.min(s1.length(), s2.length());
+        int i = start;
+        while (i < length && s1.charAt(i) == s2.charAt(i)) {
+            i++;
+        }
+        return i - start;
     }
 
-    private final TrieNode root = new TrieNode();
+    private static int matchLabel(TrieNode node, CharSequence element, int start) {
+        final String source = node.labelSource;
+        final int labelLength = node.labelEnd - node.labelStart;
+        final int length = Math.min(labelLength, element.length() - start);
+        int i = 0;
+        while (i < length && source.charAt(node.labelStart + i) == element.charAt(start + i)) {
+            i++;
+        }
+        return i;
+    }
 
-    public void add(String element) {
+    /**
+     * Adds an element to this trie.
+     *
+     * @param element the element
+     */
+    public void add(CharSequence element) {
+        final int length = element.length();
+        String elementString = null;
         TrieNode node = root;
-        for (char c : element.toCharArray()) {
-            TrieNode child = node.children.get(c);
-            if (child == null) {
-                child = new TrieNode();
-                node.children.put(c, child);
+        int depth = 0;
+        while (depth < length) {
+            final char c = element.charAt(depth);
+            final int index = node.indexOf(c);
+            if (index < 0) {
+                elementString = element.toString();
+                final TrieNode leaf = new TrieNode(elementString, depth, length);
+                leaf.element = elementString;
+                node.insert(-index - 1, c, leaf);
+                size++;
+                return;
             }
-            node = child;
+            final TrieNode child = node.children[index];
+            final int common = matchLabel(child, element, depth);
+            if (common < child.labelEnd - child.labelStart) {
+                final TrieNode middle = new TrieNode(child.labelSource, child.labelStart, child.labelStart + common);
+                child.labelStart += common;
+                middle.insert(0, child.labelSource.charAt(child.labelStart), child);
+                node.children[index] = middle;
+                node = middle;
+            } else {
+                node = child;
+            }
+            depth += common;
+        }
+        if (node.element == null) {
+            node.element = element.toString();
+            size++;
         }
-        node.element = element;
     }
 
-    public boolean has(String element) {
-        final TrieNode prefixNode = getPrefixNode(element);
-        return prefixNode != null && element.equals(prefixNode.element);
+    /**
+     * {@return whether the given element is contained in this trie}
+     *
+     * @param element the element
+     */
+    public boolean has(CharSequence element) {
+        final TrieNode node = getNode(element, false);
+        return node != null && node.element != null;
     }
 
-    public boolean hasPrefix(String element) {
-        return getPrefixNode(element) != null;
+    /**
+     * {@return whether any element of this trie starts with the given prefix}
+     *
+     * @param prefix the prefix
+     */
+    public boolean hasPrefix(CharSequence prefix) {
+        return getNode(prefix, true) != null;
     }
 
-    public void remove(String element) {
+    /**
+     * Removes an element from this trie.
+     * Nodes that become unnecessary are removed or merged.
+     *
+     * @param element the element
+     */
+    public void remove(CharSequence element) {
         if (element == null) {
             return;
         }
-        if (element.isEmpty()) {
-            root.element = null;
-            return;
-        }
-        ArrayList<TrieNode> nodePath = new ArrayList<>();
+        final int length = element.length();
+        TrieNode parent = null;
+        int childIndex = -1;
         TrieNode node = root;
-        final char[] charArray = element.toCharArray();
-        for (char c : charArray) {
-            nodePath.add(node);
-            node = node.children.get(c);
-            if (node == null) {
+        int depth = 0;
+        while (depth < length) {
+            final int index = node.indexOf(element.charAt(depth));
+            if (index < 0) {
                 return;
             }
+            final TrieNode child = node.children[index];
+            final int labelLength = child.labelEnd - child.labelStart;
+            if (matchLabel(child, element, depth) < labelLength) {
+                return;
+            }
+            parent = node;
+            childIndex = index;
+            node = child;
+            depth += labelLength;
+        }
+        if (node.element == null) {
+            return;
         }
         node.element = null;
-        for (int i = nodePath.size() - 1; i > 0; i++) {
-            final TrieNode trieNode = nodePath.get(i);
-            if (trieNode.children.isEmpty()) {
-                nodePath.get(i - 1).children.remove(charArray[i]);
-            } else {
-                break;
+        size--;
+        if (parent != null) {
+            if (node.childrenCount == 0) {
+                parent.remove(childIndex);
+                if (parent != root && parent.element == null && parent.childrenCount == 1) {
+                    parent.mergeChild();
+                }
+            } else if (node.childrenCount == 1) {
+                node.mergeChild();
             }
         }
     }
 
-    private TrieNode getPrefixNode(String element) {
+    /**
+     * {@return the number of elements in this trie}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return whether this trie contains no elements}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@return a stream of all elements in this trie in lexicographic order}
+     */
+    public Stream<String> stream() {
+        return stream("");
+    }
+
+    /**
+     * {@return a stream of all elements in this trie that start with the given prefix in lexicographic order}
+     * Elements are enumerated lazily, so the trie must not be modified while the stream is consumed.
+     *
+     * @param prefix the prefix
+     */
+    public Stream<String> stream(CharSequence prefix) {
+        final TrieNode prefixNode = getNode(prefix, true);
+        if (prefixNode == null) {
+            return Stream.empty();
+        }
+        final Iterator<String> iterator = new Iterator<>() {
+            private final ArrayDeque<TrieNode> stack = new ArrayDeque<>(List.of(prefixNode));
+            private String next = advance();
+
+            private String advance() {
+                while (!stack.isEmpty()) {
+                    final TrieNode node = stack.pop();
+                    for (int i = node.childrenCount - 1; i >= 0; i--) {
+                        stack.push(node.children[i]);
+                    }
+                    if (node.element != null) {
+                        return node.element;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                final String element = next;
+                next = advance();
+                return element;
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        iterator, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * {@return the node that represents the given element, or {@code null} if there is none}
+     * If {@code prefix} is {@code true}, the element may end within the label of the returned node.
+     */
+    private TrieNode getNode(CharSequence element, boolean prefix) {
         if (element == null) {
             return null;
         }
+        final int length = element.length();
         TrieNode node = root;
-        for (char c : element.toCharArray()) {
-            node = node.children.get(c);
+        int depth = 0;
+        while (depth < length) {
+            node = node.get(element.charAt(depth));
             if (node == null) {
                 return null;
             }
+            final int labelLength = node.labelEnd - node.labelStart;
+            final int common = matchLabel(node, element, depth);
+            if (common < labelLength && (!prefix || depth + common < length)) {
+                return null;
+            }
+            depth += labelLength;
         }
         return node;
     }
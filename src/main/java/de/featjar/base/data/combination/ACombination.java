@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.combination;
+
+import java.math.BigInteger;
+
+/**
+ * Partial implementation of {@link ICombination} that manages the index of the current combination.
+ * If the number of combinations fits into a {@code long}, all indices are plain {@code long} values.
+ * Otherwise, the index is stored as a {@link BigInteger} base plus a {@code long} offset,
+ * so advancing to the next combination still only increments a {@code long}, and the base is only moved
+ * after 2^63 - 1 combinations.
+ */
+abstract class ACombination implements ICombination {
+
+    /**
+     * The index of the current combination relative to {@link #baseIndex}.
+     */
+    long combinationIndex;
+
+    /**
+     * The maximum index of the combination enumeration relative to {@link #baseIndex},
+     * saturated at {@link Long#MAX_VALUE}.
+     */
+    long maxCombinationIndex;
+
+    /**
+     * The base of the relative indices, or {@code null} if all indices fit into a {@code long}.
+     */
+    private BigInteger baseIndex;
+
+    /**
+     * The absolute maximum index of the combination enumeration, or {@code null} if all indices fit into a
+     * {@code long}.
+     */
+    private BigInteger bigMaxCombinationIndex;
+
+    /**
+     * Creates a new combination with an empty index space.
+     */
+    ACombination() {}
+
+    /**
+     * Copy constructor.
+     * @param other the combination to copy
+     */
+    ACombination(ACombination other) {
+        combinationIndex = other.combinationIndex;
+        maxCombinationIndex = other.maxCombinationIndex;
+        baseIndex = other.baseIndex;
+        bigMaxCombinationIndex = other.bigMaxCombinationIndex;
+    }
+
+    /**
+     * Sets the number of combinations in the enumeration and resets the index to 0.
+     * @param size the number of combinations
+     */
+    void initializeIndexSpace(BigInteger size) {
+        final BigInteger maxIndex = size.subtract(BigInteger.ONE);
+        if (maxIndex.bitLength() < Long.SIZE) {
+            baseIndex = null;
+            bigMaxCombinationIndex = null;
+            maxCombinationIndex = maxIndex.longValue();
+        } else {
+            baseIndex = BigInteger.ZERO;
+            bigMaxCombinationIndex = maxIndex;
+            maxCombinationIndex = Long.MAX_VALUE;
+        }
+        combinationIndex = 0;
+    }
+
+    /**
+     * Resets the index to 0.
+     */
+    void resetIndex() {
+        combinationIndex = 0;
+        if (baseIndex != null) {
+            baseIndex = BigInteger.ZERO;
+            updateMaxCombinationIndex();
+        }
+    }
+
+    /**
+     * Increments the index, unless the current combination is the last one.
+     * @return whether the index was incremented
+     */
+    boolean incrementIndex() {
+        if (combinationIndex < maxCombinationIndex) {
+            combinationIndex++;
+            return true;
+        }
+        if (baseIndex == null) {
+            return false;
+        }
+        final BigInteger index = bigIndex();
+        if (index.compareTo(bigMaxCombinationIndex) >= 0) {
+            return false;
+        }
+        baseIndex = index;
+        combinationIndex = 1;
+        updateMaxCombinationIndex();
+        return true;
+    }
+
+    /**
+     * Adds an offset to the index without changing the current combination, unless the new index would be greater
+     * than the maximum index.
+     * @param offset the non-negative offset
+     * @return whether the index was changed
+     */
+    boolean addToIndex(long offset) {
+        if (baseIndex == null) {
+            if (offset > maxCombinationIndex - combinationIndex) {
+                return false;
+            }
+            combinationIndex += offset;
+            return true;
+        }
+        return addToIndex(BigInteger.valueOf(offset));
+    }
+
+    /**
+     * Adds an offset to the index without changing the current combination, unless the new index would be greater
+     * than the maximum index.
+     * @param offset the non-negative offset
+     * @return whether the index was changed
+     */
+    boolean addToIndex(BigInteger offset) {
+        if (baseIndex == null) {
+            return offset.bitLength() < Long.SIZE && addToIndex(offset.longValue());
+        }
+        final BigInteger newIndex = bigIndex().add(offset);
+        if (newIndex.compareTo(bigMaxCombinationIndex) > 0) {
+            return false;
+        }
+        setIndex(newIndex);
+        return true;
+    }
+
+    /**
+     * Sets the index without changing the current combination.
+     * @param newIndex the new index
+     */
+    void setIndex(long newIndex) {
+        if (baseIndex == null) {
+            combinationIndex = newIndex;
+        } else {
+            setIndex(BigInteger.valueOf(newIndex));
+        }
+    }
+
+    /**
+     * Sets the index without changing the current combination.
+     * @param newIndex the new index
+     */
+    void setIndex(BigInteger newIndex) {
+        if (baseIndex == null) {
+            combinationIndex = newIndex.longValueExact();
+        } else {
+            baseIndex = newIndex;
+            combinationIndex = 0;
+            updateMaxCombinationIndex();
+        }
+    }
+
+    private void updateMaxCombinationIndex() {
+        final BigInteger remaining = bigMaxCombinationIndex.subtract(baseIndex);
+        maxCombinationIndex = remaining.bitLength() < Long.SIZE ? remaining.longValue() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Checks whether the given index is within the index space.
+     * @param newIndex the index
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the maximum index
+     */
+    void checkIndex(BigInteger newIndex) {
+        if (newIndex.signum() < 0 || newIndex.compareTo(bigMaxIndex()) > 0) {
+            throw new IndexOutOfBoundsException(newIndex.toString());
+        }
+    }
+
+    @Override
+    public abstract ACombination clone();
+
+    @Override
+    public ICombination split() {
+        final ICombination prefix = clone();
+        if (baseIndex == null) {
+            final long difference = maxCombinationIndex - combinationIndex;
+            final long newStart = combinationIndex + (difference >>> 1) + (difference & 1);
+            advanceTo(newStart);
+            prefix.setMaxIndex(newStart - 1);
+        } else {
+            final BigInteger currentIndex = bigIndex();
+            final BigInteger difference = bigMaxCombinationIndex.subtract(currentIndex);
+            final BigInteger newStart = currentIndex.add(difference.add(BigInteger.ONE).shiftRight(1));
+            advanceTo(newStart);
+            prefix.setMaxIndex(newStart.subtract(BigInteger.ONE));
+        }
+        return prefix;
+    }
+
+    @Override
+    public boolean hasLongIndex() {
+        return baseIndex == null;
+    }
+
+    @Override
+    public long index() {
+        return baseIndex == null ? combinationIndex : bigIndex().longValueExact();
+    }
+
+    @Override
+    public long maxIndex() {
+        return baseIndex == null ? maxCombinationIndex : bigMaxCombinationIndex.longValueExact();
+    }
+
+    @Override
+    public BigInteger bigIndex() {
+        return baseIndex == null
+                ? BigInteger.valueOf(combinationIndex)
+                : baseIndex.add(BigInteger.valueOf(combinationIndex));
+    }
+
+    @Override
+    public BigInteger bigMaxIndex() {
+        return baseIndex == null ? BigInteger.valueOf(maxCombinationIndex) : bigMaxCombinationIndex;
+    }
+
+    @Override
+    public long remaining() {
+        if (baseIndex == null) {
+            return maxCombinationIndex - combinationIndex;
+        }
+        final BigInteger remaining = bigRemaining();
+        return remaining.bitLength() < Long.SIZE ? remaining.longValue() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public BigInteger bigRemaining() {
+        return baseIndex == null
+                ? BigInteger.valueOf(maxCombinationIndex - combinationIndex)
+                : bigMaxCombinationIndex.subtract(bigIndex());
+    }
+
+    @Override
+    public void setMaxIndex(long newMaxCombinationIndex) {
+        if (baseIndex == null) {
+            if (newMaxCombinationIndex < 0 || combinationIndex > newMaxCombinationIndex) {
+                throw new IndexOutOfBoundsException(newMaxCombinationIndex);
+            }
+            maxCombinationIndex = newMaxCombinationIndex;
+        } else {
+            setMaxIndex(BigInteger.valueOf(newMaxCombinationIndex));
+        }
+    }
+
+    @Override
+    public void setMaxIndex(BigInteger newMaxCombinationIndex) {
+        if (baseIndex == null) {
+            setMaxIndex(newMaxCombinationIndex.longValueExact());
+        } else {
+            if (newMaxCombinationIndex.signum() < 0 || bigIndex().compareTo(newMaxCombinationIndex) > 0) {
+                throw new IndexOutOfBoundsException(newMaxCombinationIndex.toString());
+            }
+            bigMaxCombinationIndex = newMaxCombinationIndex;
+            updateMaxCombinationIndex();
+        }
+    }
+}
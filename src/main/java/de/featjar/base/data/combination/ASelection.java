@@ -20,6 +20,8 @@
  */
 package de.featjar.base.data.combination;
 
+import java.math.BigInteger;
+
 /**
  * Partial implementation of {@link ISelection}.
  * @param <T> the type of array of items
@@ -62,6 +64,16 @@ abstract class ASelection<T, E> implements ISelection<T, E> {
         return combination.maxIndex();
     }
 
+    @Override
+    public BigInteger bigIndex() {
+        return combination.bigIndex();
+    }
+
+    @Override
+    public BigInteger bigMaxIndex() {
+        return combination.bigMaxIndex();
+    }
+
     @Override
     public int[] selectionIndices() {
         return combination.selectionIndices();
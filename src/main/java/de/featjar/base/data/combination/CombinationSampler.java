@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.combination;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Provides random access to the combinations enumerated by {@link IntLexicographicIterator} and samples them
+ * uniformly or stratified, with or without replacement.
+ * Indices refer to the same enumeration as the iterator, so sampling allows to estimate statistics over all
+ * combinations without enumerating them.
+ * Stratified sampling divides the index space into contiguous ranges of equal size.
+ * As the enumeration changes the last items of a combination least often, each range covers the combinations with
+ * similar last items.
+ * Instances are not thread-safe.
+ */
+public final class CombinationSampler {
+
+    private final ICombination combination;
+    private final int[][] orderedItems;
+
+    /**
+     * Constructs a new sampler for the combinations with the given items and combination size.
+     *
+     * @param items the items
+     * @param t the combination size
+     */
+    public CombinationSampler(int[] items, int t) {
+        combination = new SingleCombination(items.length, t);
+        orderedItems = new int[t][];
+        Arrays.fill(orderedItems, items);
+    }
+
+    /**
+     * Constructs a new sampler for the combinations with the given items and combination sizes.
+     *
+     * @param items the items sets
+     * @param ts the combination sizes for each item set
+     */
+    public CombinationSampler(int[][] items, int[] ts) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(ts);
+        if (items.length != ts.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Number of item sets (%d) must be the same as index length (%d)", items.length, ts.length));
+        }
+        if (ts.length == 0) {
+            throw new IllegalArgumentException();
+        } else if (ts.length == 1) {
+            combination = new SingleCombination(items[0].length, ts[0]);
+        } else {
+            int[] ns = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                ns[i] = items[i].length;
+            }
+            combination = new MultiCombination(ns, ts);
+        }
+        orderedItems = new int[combination.t()][];
+        int index = 0;
+        for (int i = 0; i < ts.length; i++) {
+            for (int j = 0; j < ts[i]; j++) {
+                orderedItems[index++] = items[i];
+            }
+        }
+    }
+
+    /**
+     * {@return the combination size}
+     */
+    public int t() {
+        return orderedItems.length;
+    }
+
+    /**
+     * {@return whether the number of combinations fits into a {@code long}}
+     */
+    public boolean hasLongSize() {
+        return combination.hasLongIndex();
+    }
+
+    /**
+     * {@return the number of combinations}
+     * @throws ArithmeticException if the number does not fit into a {@code long}
+     */
+    public long size() {
+        return Math.addExact(combination.maxIndex(), 1);
+    }
+
+    /**
+     * {@return the number of combinations}
+     */
+    public BigInteger bigSize() {
+        return combination.bigMaxIndex().add(BigInteger.ONE);
+    }
+
+    /**
+     * {@return a new array containing the items of the combination with the given index}
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the number of combinations
+     */
+    public int[] get(long index) {
+        return get(index, new int[orderedItems.length]);
+    }
+
+    /**
+     * Stores the items of the combination with the given index in the given array.
+     *
+     * @param index the index
+     * @param selection the selection array
+     * @return the given selection array
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the number of combinations
+     */
+    public int[] get(long index, int[] selection) {
+        combination.advanceTo(index);
+        return combination.select(selection, orderedItems);
+    }
+
+    /**
+     * {@return a new array containing the items of the combination with the given index}
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the number of combinations
+     */
+    public int[] get(BigInteger index) {
+        combination.advanceTo(index);
+        return combination.select(new int[orderedItems.length], orderedItems);
+    }
+
+    /**
+     * {@return a new array containing the positions of the items in their item sets for the combination with the
+     * given index}
+     * Allows to access combinations of arbitrary objects by position.
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the number of combinations
+     */
+    public int[] getSelectionIndices(long index) {
+        combination.advanceTo(index);
+        return combination.selectionIndices().clone();
+    }
+
+    /**
+     * {@return new arrays containing the items of the combinations with the given indices}
+     *
+     * @param indices the indices
+     * @throws IndexOutOfBoundsException if an index is negative or not less than the number of combinations
+     */
+    public int[][] getAll(long[] indices) {
+        final int[][] selections = new int[indices.length][];
+        for (int i = 0; i < indices.length; i++) {
+            selections[i] = get(indices[i]);
+        }
+        return selections;
+    }
+
+    /**
+     * Samples indices of combinations uniformly at random.
+     * Without replacement, the indices are distinct and returned in ascending order.
+     *
+     * @param count the number of indices
+     * @param withReplacement whether an index may be sampled multiple times
+     * @param random the source of randomness
+     * @return the sampled indices
+     * @throws ArithmeticException if the number of combinations does not fit into a {@code long}
+     * @throws IllegalArgumentException if more distinct indices than combinations are requested
+     */
+    public long[] sampleIndices(int count, boolean withReplacement, Random random) {
+        final long[] indices = new long[count];
+        sampleRange(0, size(), count, withReplacement, random, indices, 0);
+        return indices;
+    }
+
+    /**
+     * Samples indices of combinations stratified over the index space.
+     * The index space is divided into the given number of contiguous ranges of (almost) equal size,
+     * from each of which the same number of indices is sampled uniformly at random.
+     * Without replacement, the indices are distinct and returned in ascending order.
+     *
+     * @param strata the number of ranges
+     * @param countPerStratum the number of indices per range
+     * @param withReplacement whether an index may be sampled multiple times
+     * @param random the source of randomness
+     * @return the sampled indices, grouped by range
+     * @throws ArithmeticException if the number of combinations does not fit into a {@code long}
+     * @throws IllegalArgumentException if there are more ranges than combinations or more distinct indices than
+     *     combinations in a range are requested
+     */
+    public long[] sampleStratifiedIndices(int strata, int countPerStratum, boolean withReplacement, Random random) {
+        final long size = size();
+        if (strata <= 0 || strata > size) {
+            throw new IllegalArgumentException(String.valueOf(strata));
+        }
+        final long[] indices = new long[Math.multiplyExact(strata, countPerStratum)];
+        final long stratumSize = size / strata;
+        final long remainder = size % strata;
+        long start = 0;
+        for (int i = 0; i < strata; i++) {
+            final long length = stratumSize + (i < remainder ? 1 : 0);
+            sampleRange(start, length, countPerStratum, withReplacement, random, indices, i * countPerStratum);
+            start += length;
+        }
+        return indices;
+    }
+
+    /**
+     * Samples indices of combinations uniformly at random.
+     * Unlike {@link #sampleIndices(int, boolean, Random)}, this also works if the number of combinations does not
+     * fit into a {@code long}.
+     * Without replacement, the indices are distinct and returned in ascending order.
+     *
+     * @param count the number of indices
+     * @param withReplacement whether an index may be sampled multiple times
+     * @param random the source of randomness
+     * @return the sampled indices
+     * @throws IllegalArgumentException if more distinct indices than combinations are requested
+     */
+    public BigInteger[] sampleBigIndices(int count, boolean withReplacement, Random random) {
+        final BigInteger size = bigSize();
+        final BigInteger[] indices = new BigInteger[count];
+        if (withReplacement) {
+            for (int i = 0; i < count; i++) {
+                indices[i] = randomBelow(size, random);
+            }
+        } else {
+            if (size.compareTo(BigInteger.valueOf(count)) < 0) {
+                throw new IllegalArgumentException(String.valueOf(count));
+            }
+            final Set<BigInteger> selected = new HashSet<>(count * 2);
+            BigInteger bound = size.subtract(BigInteger.valueOf(count));
+            for (int i = 0; i < count; i++) {
+                final BigInteger index = randomBelow(bound.add(BigInteger.ONE), random);
+                indices[i] = selected.contains(index) ? bound : index;
+                selected.add(indices[i]);
+                bound = bound.add(BigInteger.ONE);
+            }
+            Arrays.sort(indices);
+        }
+        return indices;
+    }
+
+    /**
+     * {@return new arrays containing the items of combinations sampled uniformly at random}
+     *
+     * @param count the number of combinations
+     * @param withReplacement whether a combination may be sampled multiple times
+     * @param random the source of randomness
+     * @throws IllegalArgumentException if more distinct combinations than exist are requested
+     */
+    public int[][] sample(int count, boolean withReplacement, Random random) {
+        if (hasLongSize()) {
+            return getAll(sampleIndices(count, withReplacement, random));
+        }
+        final BigInteger[] indices = sampleBigIndices(count, withReplacement, random);
+        final int[][] selections = new int[count][];
+        for (int i = 0; i < count; i++) {
+            selections[i] = get(indices[i]);
+        }
+        return selections;
+    }
+
+    /**
+     * Samples distinct values from a range using Floyd's algorithm, which takes time and space linear in the number
+     * of samples, independent of the length of the range.
+     */
+    private static void sampleRange(
+            long start, long length, int count, boolean withReplacement, Random random, long[] indices, int offset) {
+        if (count < 0) {
+            throw new IllegalArgumentException(String.valueOf(count));
+        }
+        if (withReplacement) {
+            if (count > 0 && length <= 0) {
+                throw new IllegalArgumentException(String.valueOf(count));
+            }
+            for (int i = 0; i < count; i++) {
+                indices[offset + i] = start + random.nextLong(length);
+            }
+        } else {
+            if (count > length) {
+                throw new IllegalArgumentException(String.valueOf(count));
+            }
+            final Set<Long> selected = new HashSet<>(count * 2);
+            for (long bound = length - count; bound < length; bound++) {
+                final long index = random.nextLong(bound + 1);
+                final long sampledIndex = selected.contains(index) ? bound : index;
+                selected.add(sampledIndex);
+                indices[offset++] = start + sampledIndex;
+            }
+            Arrays.sort(indices, offset - count, offset);
+        }
+    }
+
+    private static BigInteger randomBelow(BigInteger bound, Random random) {
+        final int bitLength = bound.bitLength();
+        BigInteger index;
+        do {
+            index = new BigInteger(bitLength, random);
+        } while (index.compareTo(bound) >= 0);
+        return index;
+    }
+}
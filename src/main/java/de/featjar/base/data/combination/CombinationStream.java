@@ -20,6 +20,10 @@
  */
 package de.featjar.base.data.combination;
 
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -31,6 +35,68 @@ import java.util.stream.StreamSupport;
  */
 public final class CombinationStream {
 
+    private static final class BlockAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntLexicographicIterator<?> iterator;
+        private final int blockSize;
+        private final transient ObjIntConsumer<int[]> consumer;
+
+        private BlockAction(IntLexicographicIterator<?> iterator, int blockSize, ObjIntConsumer<int[]> consumer) {
+            this.iterator = iterator;
+            this.blockSize = blockSize;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            IntLexicographicIterator<?> prefix = iterator.trySplit();
+            if (prefix != null) {
+                invokeAll(new BlockAction(prefix, blockSize, consumer), new BlockAction(iterator, blockSize, consumer));
+            } else {
+                final int[] block = new int[Math.max(1, iterator.t()) * blockSize];
+                for (int count = iterator.nextBlock(block); count > 0; count = iterator.nextBlock(block)) {
+                    consumer.accept(block, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * The smallest chunk of combinations that is ever split off for parallel processing.
+     */
+    public static final long MINIMUM_SPLIT_SIZE = 10;
+
+    /**
+     * The number of chunks per worker thread that the adaptive split policy aims for.
+     * More chunks than threads allow for load balancing, as chunks may take differently long to process.
+     */
+    public static final int CHUNKS_PER_THREAD = 8;
+
+    /**
+     * {@return the minimum split size chosen by the adaptive split policy for the given number of combinations}
+     * The size is chosen such that each thread of the {@link ForkJoinPool#commonPool() common pool} processes about
+     * {@link #CHUNKS_PER_THREAD} chunks, but never less than {@link #MINIMUM_SPLIT_SIZE}.
+     *
+     * @param size the number of combinations
+     */
+    public static long getAdaptiveMinimumSplitSize(long size) {
+        final long chunkCount = (long) ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD;
+        return Math.max(MINIMUM_SPLIT_SIZE, size / chunkCount);
+    }
+
+    /**
+     * {@return the minimum split size chosen by the adaptive split policy for the given number of combinations}
+     * Used for enumerations with more than {@link Long#MAX_VALUE} combinations (see
+     * {@link #getAdaptiveMinimumSplitSize(long)}).
+     *
+     * @param size the number of combinations
+     */
+    public static BigInteger getAdaptiveMinimumSplitSize(BigInteger size) {
+        final long chunkCount = (long) ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD;
+        return size.divide(BigInteger.valueOf(chunkCount)).max(BigInteger.valueOf(MINIMUM_SPLIT_SIZE));
+    }
+
     /**
      * {@return a sequential stream with the given items and combination size}
      *
@@ -216,4 +282,90 @@ public final class CombinationStream {
             int[][] items, int[] t, Supplier<E> environmentSupplier) {
         return StreamSupport.stream(new IntLexicographicIterator<>(items, t, environmentSupplier), true);
     }
+
+    /**
+     * {@return a parallel stream with the given items and combination size}
+     * The stream is split into chunks of at least half the given size.
+     *
+     * @param <E> the type of the environment for the selections returned by the stream
+     * @param t the combination size
+     * @param items the items
+     * @param environmentSupplier the supplier of the environment objects
+     * @param minimumSplitSize the minimum split size, or 0 for an adaptive split size
+     */
+    public static <E> Stream<ISelection<int[], E>> parallelStream(
+            int[] items, int t, Supplier<E> environmentSupplier, long minimumSplitSize) {
+        IntLexicographicIterator<E> iterator = new IntLexicographicIterator<>(items, t, environmentSupplier);
+        iterator.setMinimumSplitSize(minimumSplitSize);
+        return StreamSupport.stream(iterator, true);
+    }
+
+    /**
+     * {@return a parallel stream with the given items and combination size}
+     * The stream is split into chunks of at least half the given size.
+     *
+     * @param <T> the type of the items
+     * @param <E> the type of the environment for the selections returned by the stream
+     * @param t the combination size
+     * @param items the items
+     * @param environmentSupplier the supplier of the environment objects
+     * @param minimumSplitSize the minimum split size, or 0 for an adaptive split size
+     */
+    public static <T, E> Stream<ISelection<T[], E>> parallelStream(
+            T[] items, int t, Supplier<E> environmentSupplier, long minimumSplitSize) {
+        ObjectLexicographicIterator<T, E> iterator = new ObjectLexicographicIterator<>(items, t, environmentSupplier);
+        iterator.setMinimumSplitSize(minimumSplitSize);
+        return StreamSupport.stream(iterator, true);
+    }
+
+    /**
+     * Processes all combinations with the given items and combination size in parallel, block by block.
+     * Each block contains up to {@code blockSize} combinations in row-major order (see
+     * {@link IntLexicographicIterator#nextBlock(int[])}) and is passed to the consumer together with the number of
+     * combinations it contains.
+     * The consumer is called concurrently from multiple threads and must not keep a reference to the block,
+     * as it is reused.
+     *
+     * @param items the items
+     * @param t the combination size
+     * @param blockSize the maximum number of combinations per block
+     * @param consumer the consumer of blocks and their number of combinations
+     */
+    public static void forEachBlock(int[] items, int t, int blockSize, ObjIntConsumer<int[]> consumer) {
+        forEachBlock(new IntLexicographicIterator<>(items, t, () -> null), blockSize, consumer);
+    }
+
+    /**
+     * Processes all combinations with the given items and combination size in parallel, block by block.
+     * Each block contains up to {@code blockSize} combinations in row-major order (see
+     * {@link IntLexicographicIterator#nextBlock(int[])}) and is passed to the consumer together with the number of
+     * combinations it contains.
+     * The consumer is called concurrently from multiple threads and must not keep a reference to the block,
+     * as it is reused.
+     *
+     * @param items the items
+     * @param t the combination size
+     * @param blockSize the maximum number of combinations per block
+     * @param consumer the consumer of blocks and their number of combinations
+     */
+    public static void forEachBlock(int[][] items, int[] t, int blockSize, ObjIntConsumer<int[]> consumer) {
+        forEachBlock(new IntLexicographicIterator<>(items, t, () -> null), blockSize, consumer);
+    }
+
+    /**
+     * Processes all remaining combinations of the given iterator in parallel, block by block.
+     * The iterator is split according to its {@link IntLexicographicIterator#setMinimumSplitSize(long) split size}.
+     *
+     * @param iterator the iterator
+     * @param blockSize the maximum number of combinations per block
+     * @param consumer the consumer of blocks and their number of combinations
+     * @see #forEachBlock(int[], int, int, ObjIntConsumer)
+     */
+    public static void forEachBlock(
+            IntLexicographicIterator<?> iterator, int blockSize, ObjIntConsumer<int[]> consumer) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException(String.valueOf(blockSize));
+        }
+        ForkJoinPool.commonPool().invoke(new BlockAction(iterator, blockSize, consumer));
+    }
 }
@@ -20,10 +20,14 @@
  */
 package de.featjar.base.data.combination;
 
+import java.math.BigInteger;
+
 /**
  * Interface for a combination of t integers without permutations and duplicates.
  * Uses the combinatorial number system to enumerate all possible combinations of this kind.
  * Allows to change the combination to the next in the enumeration and to any arbitrary number.
+ * Indices are {@code long} values, unless the number of combinations exceeds 2^63 (see {@link #hasLongIndex()}),
+ * in which case the {@link BigInteger} variants of the index methods must be used.
  *
  * @author Sebastian Krieter
  */
@@ -34,21 +38,54 @@ interface ICombination {
      */
     int t();
 
+    /**
+     * {@return whether all indices of the enumeration fit into a {@code long}}
+     */
+    boolean hasLongIndex();
+
     /**
      * {@return the index of the current combination in the enumeration}
+     * @throws ArithmeticException if the index does not fit into a {@code long}
      */
     long index();
 
     /**
      * {@return the maximum index of the enumeration}
+     * @throws ArithmeticException if the index does not fit into a {@code long}
      */
     long maxIndex();
 
+    /**
+     * {@return the index of the current combination in the enumeration}
+     */
+    BigInteger bigIndex();
+
+    /**
+     * {@return the maximum index of the enumeration}
+     */
+    BigInteger bigMaxIndex();
+
+    /**
+     * {@return the number of combinations after the current one, saturated at {@link Long#MAX_VALUE}}
+     */
+    long remaining();
+
+    /**
+     * {@return the number of combinations after the current one}
+     */
+    BigInteger bigRemaining();
+
     /**
      * {@return the array representing the current combination}
      */
     int[] selectionIndices();
 
+    /**
+     * {@return the highest position in {@link #selectionIndices()} that was changed by the last change}
+     * All higher positions still hold the same indices as before.
+     */
+    int lastChangedIndex();
+
     /**
      * Stores items from an item list to a given selection array corresponding to the current combination.
      * Item lists are given for each individual position of the combination.
@@ -79,20 +116,52 @@ interface ICombination {
      */
     boolean advance();
 
+    /**
+     * Changes this combination to the next in the enumeration that differs from the current combination in at least
+     * one of the last {@code length} positions of {@link #selectionIndices()}.
+     * As these positions change least often, this skips a contiguous range of the enumeration
+     * without visiting the combinations in between.
+     * @param length the number of positions, between 1 and {@link #t()}
+     * @return {@code true} if such a combination exists and {@code false} otherwise,
+     * in which case this combination is changed to the last in the enumeration
+     */
+    boolean skip(int length);
+
     /**
      * Changes this combination to the given index in the enumeration.
      * @param newIndex the new index
      */
     void advanceTo(long newIndex);
 
+    /**
+     * Changes this combination to the given index in the enumeration.
+     * @param newIndex the new index
+     */
+    void advanceTo(BigInteger newIndex);
+
     /**
      * {@return a copy of this combination}
      */
     ICombination clone();
 
+    /**
+     * Splits the remaining enumeration into two halves.
+     * This combination is advanced to the start of the second half,
+     * and a copy that enumerates the first half is returned.
+     * Requires at least two remaining combinations.
+     * @return a combination enumerating the first half
+     */
+    ICombination split();
+
     /**
      * Set the maximum index.
      * @param newMaxCombinationIndex the new max index.
      */
     void setMaxIndex(long newMaxCombinationIndex);
+
+    /**
+     * Set the maximum index.
+     * @param newMaxCombinationIndex the new max index.
+     */
+    void setMaxIndex(BigInteger newMaxCombinationIndex);
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.combination;
+
+/**
+ * Decides whether combinations with a given prefix can be valid, so that invalid combinations can be skipped in
+ * bulk by the lexicographic iterators.
+ * The enumeration changes the last positions of a combination least often, so the prefix of a combination with
+ * length l consists of its last l items.
+ * All combinations sharing a prefix form a contiguous range of the enumeration, which is skipped without visiting
+ * its combinations if the prefix is rejected.
+ * Each prefix is only tested once for each such range, starting with the shortest prefix that changed.
+ * Testing the full length t amounts to filtering single combinations.
+ *
+ * @param <S> the type of the selection
+ */
+@FunctionalInterface
+public interface IPrefixFilter<S> {
+
+    /**
+     * {@return whether any combination ending with the last {@code length} items of the given selection can be valid}
+     *
+     * @param selection the items of the current combination, which must not be modified
+     * @param length the length of the prefix, between 1 and the combination size
+     */
+    boolean test(S selection, int length);
+}
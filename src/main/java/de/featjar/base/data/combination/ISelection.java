@@ -20,6 +20,8 @@
  */
 package de.featjar.base.data.combination;
 
+import java.math.BigInteger;
+
 /**
  * A selection over a {@link ICombination combination} of items. Intended to use
  * with {@link CombinationStream}. Also stores an environment object for use in
@@ -44,6 +46,16 @@ public interface ISelection<T, E> {
      * @see ICombination#maxIndex()
      */
     long maxIndex();
+    /**
+     * {@return the current index of the underlying combination}
+     * @see ICombination#bigIndex()
+     */
+    BigInteger bigIndex();
+    /**
+     * {@return the maximum index of the underlying combination}
+     * @see ICombination#bigMaxIndex()
+     */
+    BigInteger bigMaxIndex();
     /**
      * {@return the current selection indices of the underlying combination}
      * @see ICombination#selectionIndices()
@@ -20,6 +20,7 @@
  */
 package de.featjar.base.data.combination;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Spliterator;
@@ -62,14 +63,20 @@ public final class IntLexicographicIterator<E> implements Spliterator<ISelection
         }
     }
 
-    private static final int MINIMUM_SPLIT_SIZE = 10;
-
     private final ICombination combination;
     private final IntSelection<E> selection;
 
     private final int[][] orderedItems;
     private final Supplier<E> environmentSupplier;
 
+    private long minimumSplitSize;
+    private BigInteger bigMinimumSplitSize;
+    private boolean exhausted;
+
+    private IPrefixFilter<int[]> prefixFilter;
+    private int[] prefixSelection;
+    private boolean checkAllPrefixes;
+
     /**
      * Constructs a new instance of the iterator with the given items and combination size.
      *
@@ -139,12 +146,12 @@ public final class IntLexicographicIterator<E> implements Spliterator<ISelection
     private IntLexicographicIterator(IntLexicographicIterator<E> other) {
         environmentSupplier = other.environmentSupplier;
         orderedItems = other.orderedItems;
-        combination = other.combination.clone();
-
-        long currentIndex = other.combination.index();
-        long newStart = currentIndex + (((other.combination.maxIndex() + 1) - currentIndex) / 2);
-        other.combination.advanceTo(newStart);
-        combination.setMaxIndex(newStart - 1);
+        minimumSplitSize = other.minimumSplitSize;
+        bigMinimumSplitSize = other.bigMinimumSplitSize;
+        combination = other.combination.split();
+        if (other.prefixFilter != null) {
+            setPrefixFilter(other.prefixFilter);
+        }
 
         selection = new IntSelection<>(
                 combination, orderedItems, new int[other.selection.selection.length], environmentSupplier.get());
@@ -152,22 +159,151 @@ public final class IntLexicographicIterator<E> implements Spliterator<ISelection
 
     @Override
     public int characteristics() {
-        return ORDERED | DISTINCT | SIZED | NONNULL | IMMUTABLE | SUBSIZED;
+        return combination.hasLongIndex() && prefixFilter == null
+                ? ORDERED | DISTINCT | SIZED | NONNULL | IMMUTABLE | SUBSIZED
+                : ORDERED | DISTINCT | NONNULL | IMMUTABLE;
     }
 
     @Override
     public long estimateSize() {
-        return combination.maxIndex() - combination.index();
+        return combination.remaining();
     }
 
     @Override
-    public Spliterator<ISelection<int[], E>> trySplit() {
-        return (estimateSize() < MINIMUM_SPLIT_SIZE) ? null : new IntLexicographicIterator<>(this);
+    public IntLexicographicIterator<E> trySplit() {
+        if (minimumSplitSize <= 0) {
+            if (combination.hasLongIndex()) {
+                minimumSplitSize = CombinationStream.getAdaptiveMinimumSplitSize(estimateSize());
+            } else {
+                bigMinimumSplitSize = CombinationStream.getAdaptiveMinimumSplitSize(combination.bigRemaining());
+                minimumSplitSize = bigMinimumSplitSize.bitLength() < Long.SIZE
+                        ? bigMinimumSplitSize.longValue()
+                        : Long.MAX_VALUE;
+            }
+        }
+        if (bigMinimumSplitSize != null) {
+            return combination.bigRemaining().compareTo(bigMinimumSplitSize) < 0 ? null : new IntLexicographicIterator<>(this);
+        }
+        return (estimateSize() < minimumSplitSize) ? null : new IntLexicographicIterator<>(this);
+    }
+
+    /**
+     * {@return the minimum number of remaining combinations for which this iterator can be split}
+     * Returns 0 if the size is chosen adaptively on the first split.
+     */
+    public long getMinimumSplitSize() {
+        return minimumSplitSize;
+    }
+
+    /**
+     * Sets the minimum number of remaining combinations for which this iterator can be split.
+     * Thus, each chunk processed by a parallel stream contains at least half this many combinations.
+     * If set to 0 (the default), the size is chosen adaptively on the first split
+     * (see {@link CombinationStream#getAdaptiveMinimumSplitSize(long)}), based on the exact number of remaining
+     * combinations even if it exceeds {@link Long#MAX_VALUE}.
+     * The size is inherited by all iterators split off this iterator.
+     *
+     * @param minimumSplitSize the minimum split size
+     */
+    public void setMinimumSplitSize(long minimumSplitSize) {
+        if (minimumSplitSize < 0) {
+            throw new IllegalArgumentException(String.valueOf(minimumSplitSize));
+        }
+        this.minimumSplitSize = minimumSplitSize;
+        bigMinimumSplitSize = null;
+    }
+
+    /**
+     * Sets a filter that rejects prefixes of combinations, which causes all combinations with a rejected prefix to be
+     * skipped (see {@link IPrefixFilter}).
+     * The filter is called with a selection array of this iterator and must be thread-safe if this iterator is
+     * split.
+     * As the number of skipped combinations is not known in advance, this iterator is no longer {@link #SIZED} if a
+     * filter is set.
+     *
+     * @param prefixFilter the prefix filter, or {@code null} to remove the filter
+     */
+    public void setPrefixFilter(IPrefixFilter<int[]> prefixFilter) {
+        this.prefixFilter = prefixFilter;
+        prefixSelection = prefixFilter == null ? null : new int[orderedItems.length];
+        checkAllPrefixes = true;
+    }
+
+    /**
+     * Skips all combinations with a prefix that is rejected by the prefix filter.
+     * Only tests prefixes that changed since the last accepted combination.
+     * @return {@code true} if the current combination is accepted and {@code false} if the enumeration has ended
+     */
+    private boolean skipRejectedCombinations() {
+        final int t = orderedItems.length;
+        final int[] selectionIndices = combination.selectionIndices();
+        int position = checkAllPrefixes ? t - 1 : combination.lastChangedIndex();
+        checkAllPrefixes = false;
+        while (true) {
+            for (int i = 0; i <= position; i++) {
+                prefixSelection[i] = orderedItems[i][selectionIndices[i]];
+            }
+            int length = t - position;
+            while (length <= t && prefixFilter.test(prefixSelection, length)) {
+                length++;
+            }
+            if (length > t) {
+                return true;
+            }
+            if (!combination.skip(length)) {
+                exhausted = true;
+                return false;
+            }
+            position = combination.lastChangedIndex();
+        }
     }
 
     @Override
     public boolean tryAdvance(Consumer<? super ISelection<int[], E>> action) {
+        if (exhausted || (prefixFilter != null && !skipRejectedCombinations())) {
+            return false;
+        }
         action.accept(selection);
-        return combination.advance();
+        exhausted = !combination.advance();
+        return true;
+    }
+
+    /**
+     * {@return the combination size, which is the number of integers each combination occupies in a block}
+     */
+    public int t() {
+        return orderedItems.length;
+    }
+
+    /**
+     * Writes the next combinations of items to the given block in row-major order,
+     * such that the i-th combination occupies the positions {@code i * t()} to {@code (i + 1) * t() - 1}.
+     * Writes as many combinations as fit into the block, unless the enumeration ends before.
+     * In contrast to {@link #tryAdvance(Consumer)}, this neither calls a consumer nor copies a selection per
+     * combination, which allows tight loops over blocks of many combinations.
+     *
+     * @param block the block to write to, which must hold at least one combination
+     * @return the number of written combinations, which is 0 if and only if the enumeration has ended
+     * @throws IllegalArgumentException if the block is shorter than {@link #t()}
+     */
+    public int nextBlock(int[] block) {
+        final int t = orderedItems.length;
+        if (block.length < t) {
+            throw new IllegalArgumentException(
+                    String.format("block of length %d cannot hold a combination of size %d", block.length, t));
+        }
+        final int capacity = t == 0 ? 1 : block.length / t;
+        final int[] selectionIndices = combination.selectionIndices();
+        int count = 0;
+        int offset = 0;
+        while (count < capacity && !exhausted && (prefixFilter == null || skipRejectedCombinations())) {
+            for (int i = 0; i < t; i++) {
+                block[offset + i] = orderedItems[i][selectionIndices[i]];
+            }
+            offset += t;
+            count++;
+            exhausted = !combination.advance();
+        }
+        return count;
     }
 }
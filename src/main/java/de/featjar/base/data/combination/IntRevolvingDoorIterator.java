@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.combination;
+
+import de.featjar.base.data.BinomialCalculator;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This iterator provides all t-wise combinations of a given set of integer items in revolving-door order.
+ * In this minimal-change order, each combination differs from its predecessor in exactly one element,
+ * which is exposed by {@link #removedItem()} and {@link #addedItem()}.
+ * Thus, consumers that maintain state for the current combination (e.g., counters or solver assumptions)
+ * can update it in constant time per combination instead of comparing whole combinations.
+ * Uses Algorithm R from Knuth's The Art of Computer Programming, Volume 4A, Section 7.2.1.3.
+ * <p>
+ * In contrast to {@link IntLexicographicIterator}, this iterator cannot be split, as the order is not based on
+ * the combinatorial number system.
+ */
+public final class IntRevolvingDoorIterator {
+
+    private final int[] items;
+    private final int t;
+    private final int n;
+
+    /**
+     * The indices of the selected items in ascending order, starting at position 1.
+     * Position t + 1 holds the sentinel n.
+     */
+    private final int[] c;
+
+    private long index;
+    private boolean exhausted;
+    private int removedIndex;
+    private int addedIndex;
+
+    /**
+     * Constructs a new instance of the iterator with the given items and combination size.
+     *
+     * @param items the items
+     * @param t the combination size
+     */
+    public IntRevolvingDoorIterator(int[] items, int t) {
+        this.items = Objects.requireNonNull(items);
+        n = items.length;
+        if (t < 0 || t > n) {
+            throw new IllegalArgumentException(String.format("Invalid combination size %d for %d items", t, n));
+        }
+        this.t = t;
+        c = new int[t + 2];
+        reset();
+    }
+
+    /**
+     * Resets this iterator to the first combination, which consists of the first t items.
+     */
+    public void reset() {
+        for (int j = 1; j <= t; j++) {
+            c[j] = j - 1;
+        }
+        c[t + 1] = n;
+        index = 0;
+        exhausted = false;
+        removedIndex = -1;
+        addedIndex = -1;
+    }
+
+    /**
+     * Changes the current combination to the next in revolving-door order.
+     *
+     * @return {@code true} if the combination was changed and {@code false} if the current combination is the last
+     */
+    public boolean advance() {
+        if (exhausted || t == 0) {
+            exhausted = true;
+            return false;
+        }
+        int j;
+        if ((t & 1) == 1) {
+            if (c[1] + 1 < c[2]) {
+                return step(c[1], ++c[1]);
+            }
+            j = 2;
+        } else {
+            if (c[1] > 0) {
+                return step(c[1], --c[1]);
+            }
+            j = 2;
+            if (j <= t && c[j] + 1 < c[j + 1]) {
+                return increase(j);
+            }
+            j++;
+        }
+        while (j <= t) {
+            if (c[j] >= j) {
+                final int removed = c[j];
+                c[j] = c[j - 1];
+                c[j - 1] = j - 2;
+                return step(removed, j - 2);
+            }
+            j++;
+            if (j > t) {
+                break;
+            }
+            if (c[j] + 1 < c[j + 1]) {
+                return increase(j);
+            }
+            j++;
+        }
+        exhausted = true;
+        return false;
+    }
+
+    private boolean increase(int j) {
+        c[j - 1] = c[j];
+        c[j]++;
+        return step(j - 2, c[j]);
+    }
+
+    private boolean step(int removed, int added) {
+        removedIndex = removed;
+        addedIndex = added;
+        index++;
+        return true;
+    }
+
+    /**
+     * {@return the number of steps from the first to the current combination}
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * {@return the total number of combinations}
+     */
+    public long size() {
+        return BinomialCalculator.computeBinomial(n, t);
+    }
+
+    /**
+     * {@return the combination size}
+     */
+    public int t() {
+        return t;
+    }
+
+    /**
+     * {@return the index of the item that left the combination in the last step, or -1 before the first step}
+     */
+    public int removedIndex() {
+        return removedIndex;
+    }
+
+    /**
+     * {@return the index of the item that entered the combination in the last step, or -1 before the first step}
+     */
+    public int addedIndex() {
+        return addedIndex;
+    }
+
+    /**
+     * {@return the item that left the combination in the last step}
+     * @throws IllegalStateException if no step was made yet
+     */
+    public int removedItem() {
+        if (removedIndex < 0) {
+            throw new IllegalStateException();
+        }
+        return items[removedIndex];
+    }
+
+    /**
+     * {@return the item that entered the combination in the last step}
+     * @throws IllegalStateException if no step was made yet
+     */
+    public int addedItem() {
+        if (addedIndex < 0) {
+            throw new IllegalStateException();
+        }
+        return items[addedIndex];
+    }
+
+    /**
+     * {@return the item index at the given position of the current combination, which is sorted ascending}
+     *
+     * @param position the position, between 0 (inclusive) and t (exclusive)
+     */
+    public int selectionIndex(int position) {
+        Objects.checkIndex(position, t);
+        return c[position + 1];
+    }
+
+    /**
+     * {@return a new array containing the item indices of the current combination in ascending order}
+     */
+    public int[] selectionIndices() {
+        return Arrays.copyOfRange(c, 1, t + 1);
+    }
+
+    /**
+     * Stores the items of the current combination in the given array.
+     *
+     * @param selection the selection array, which must have at least length t
+     * @return the given selection array
+     */
+    public int[] select(int[] selection) {
+        for (int j = 0; j < t; j++) {
+            selection[j] = items[c[j + 1]];
+        }
+        return selection;
+    }
+
+    /**
+     * {@return a new array containing the items of the current combination}
+     */
+    public int[] select() {
+        return select(new int[t]);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(select());
+    }
+}
@@ -20,19 +20,21 @@
  */
 package de.featjar.base.data.combination;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 
 /**
  * Combination object used by lexicographic iterators.
  * Supports multiple item sets and combination sizes (t) per item set.
+ * The index of a combination is a mixed-radix number, in which the first item set is the least significant digit.
  *
  * @author Sebastian Krieter
  */
-final class MultiCombination implements ICombination {
+final class MultiCombination extends ACombination {
 
     private SingleCombination[] combinations;
     private int[] selectionIndices;
-    private long maxCombinationIndex;
+    private int lastChangedIndex;
 
     /**
      * Creates a new combination instance.
@@ -50,10 +52,12 @@ final class MultiCombination implements ICombination {
         for (int i = 0; i < combinations.length; i++) {
             combinations[i] = new SingleCombination(ns[i], selectionIndices, offset, offset = offset + ts[i]);
         }
-        maxCombinationIndex = 1;
+        BigInteger size = BigInteger.ONE;
         for (int k = 0; k < combinations.length; k++) {
-            maxCombinationIndex *= combinations[k].maxCombinationIndex + 1;
+            size = size.multiply(combinations[k].bigMaxIndex().add(BigInteger.ONE));
         }
+        initializeIndexSpace(size);
+        lastChangedIndex = length - 1;
     }
 
     /**
@@ -61,12 +65,13 @@ final class MultiCombination implements ICombination {
      * @param other the combination to copy
      */
     public MultiCombination(MultiCombination other) {
+        super(other);
         selectionIndices = Arrays.copyOf(other.selectionIndices, other.selectionIndices.length);
         combinations = new SingleCombination[other.combinations.length];
         for (int i = 0; i < combinations.length; i++) {
             combinations[i] = new SingleCombination(other.combinations[i], selectionIndices);
         }
-        maxCombinationIndex = other.maxCombinationIndex;
+        lastChangedIndex = other.lastChangedIndex;
     }
 
     @Override
@@ -79,29 +84,6 @@ final class MultiCombination implements ICombination {
         return selectionIndices.length;
     }
 
-    @Override
-    public long index() {
-        long index = combinations[combinations.length - 1].combinationIndex;
-        for (int i = 2; i <= combinations.length; i++) {
-            index = (combinations[i - 2].maxCombinationIndex + 1) * index
-                    + combinations[combinations.length - i].combinationIndex;
-        }
-        return index;
-    }
-
-    @Override
-    public void setMaxIndex(long newMaxCombinationIndex) {
-        if (newMaxCombinationIndex < 0 || index() > newMaxCombinationIndex) {
-            throw new IndexOutOfBoundsException(newMaxCombinationIndex);
-        }
-        maxCombinationIndex = newMaxCombinationIndex;
-    }
-
-    @Override
-    public long maxIndex() {
-        return maxCombinationIndex;
-    }
-
     @Override
     public int[] selectionIndices() {
         return selectionIndices;
@@ -125,15 +107,21 @@ final class MultiCombination implements ICombination {
 
     @Override
     public void reset() {
+        resetIndex();
         for (SingleCombination c : combinations) {
             c.reset();
         }
+        lastChangedIndex = selectionIndices.length - 1;
     }
 
     @Override
     public boolean advance() {
+        if (!incrementIndex()) {
+            return false;
+        }
         for (SingleCombination c : combinations) {
             if (c.advance()) {
+                lastChangedIndex = c.lastChangedIndex();
                 return true;
             } else {
                 c.reset();
@@ -144,14 +132,80 @@ final class MultiCombination implements ICombination {
 
     @Override
     public void advanceTo(long newIndex) {
+        if (!hasLongIndex()) {
+            advanceTo(BigInteger.valueOf(newIndex));
+            return;
+        }
         if (newIndex < 0 || newIndex > maxIndex()) {
             throw new IndexOutOfBoundsException(newIndex);
         }
-        for (int i = 1; i < combinations.length; i++) {
-            combinations[i - 1].advanceTo(newIndex % (combinations[i].maxCombinationIndex + 1));
-            newIndex /= combinations[i].maxCombinationIndex + 1;
+        setIndex(newIndex);
+        for (int i = 0; i < combinations.length - 1; i++) {
+            final long radix = combinations[i].maxIndex() + 1;
+            combinations[i].advanceTo(newIndex % radix);
+            newIndex /= radix;
+        }
+        combinations[combinations.length - 1].advanceTo(newIndex);
+        lastChangedIndex = selectionIndices.length - 1;
+    }
+
+    @Override
+    public void advanceTo(BigInteger newIndex) {
+        if (hasLongIndex()) {
+            advanceTo(newIndex.longValueExact());
+            return;
+        }
+        checkIndex(newIndex);
+        setIndex(newIndex);
+        for (int i = 0; i < combinations.length - 1; i++) {
+            final BigInteger[] quotientAndRemainder =
+                    newIndex.divideAndRemainder(combinations[i].bigMaxIndex().add(BigInteger.ONE));
+            combinations[i].advanceTo(quotientAndRemainder[1]);
+            newIndex = quotientAndRemainder[0];
         }
         combinations[combinations.length - 1].advanceTo(newIndex);
+        lastChangedIndex = selectionIndices.length - 1;
+    }
+
+    @Override
+    public int lastChangedIndex() {
+        return lastChangedIndex;
+    }
+
+    @Override
+    public boolean skip(int length) {
+        if (length < 1 || length > selectionIndices.length) {
+            throw new IllegalArgumentException(String.valueOf(length));
+        }
+        final int position = selectionIndices.length - length;
+        for (SingleCombination c : combinations) {
+            if (c.end() <= position) {
+                c.moveToBlockEnd(c.end());
+            } else {
+                c.moveToBlockEnd(position);
+                break;
+            }
+        }
+        final boolean changed;
+        if (hasLongIndex()) {
+            long newIndex = 0;
+            for (int i = combinations.length - 1; i >= 0; i--) {
+                newIndex = newIndex * (combinations[i].maxIndex() + 1) + combinations[i].index();
+            }
+            changed = addToIndex(newIndex - index());
+        } else {
+            BigInteger newIndex = BigInteger.ZERO;
+            for (int i = combinations.length - 1; i >= 0; i--) {
+                newIndex = newIndex.multiply(combinations[i].bigMaxIndex().add(BigInteger.ONE))
+                        .add(combinations[i].bigIndex());
+            }
+            changed = addToIndex(newIndex.subtract(bigIndex()));
+        }
+        if (!changed) {
+            advanceTo(bigMaxIndex());
+            return false;
+        }
+        return advance();
     }
 
     @Override
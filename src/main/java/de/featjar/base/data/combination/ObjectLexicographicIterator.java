@@ -20,6 +20,7 @@
  */
 package de.featjar.base.data.combination;
 
+import java.math.BigInteger;
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Objects;
@@ -64,14 +65,20 @@ public final class ObjectLexicographicIterator<T, E> implements Spliterator<ISel
         }
     }
 
-    private static final int MINIMUM_SPLIT_SIZE = 10;
-
     private final ICombination combination;
     private final ObjectSelection<T, E> selection;
 
     private final T[][] orderedItems;
     private final Supplier<E> environmentSupplier;
 
+    private long minimumSplitSize;
+    private BigInteger bigMinimumSplitSize;
+    private boolean exhausted;
+
+    private IPrefixFilter<T[]> prefixFilter;
+    private T[] prefixSelection;
+    private boolean checkAllPrefixes;
+
     /**
      * Constructs a new instance of the iterator with the given items and combination size.
      *
@@ -128,7 +135,7 @@ public final class ObjectLexicographicIterator<T, E> implements Spliterator<ISel
     public ObjectLexicographicIterator(T[] items, int t, Supplier<E> environmentSupplier) {
         combination = new SingleCombination(items.length, t);
         int selectionLength = combination.t();
-        orderedItems = (T[][]) Array.newInstance(items[0].getClass(), selectionLength);
+        orderedItems = (T[][]) Array.newInstance(items.getClass(), selectionLength);
         int index = 0;
         for (int j = 0; j < t; j++) {
             orderedItems[index++] = items;
@@ -138,7 +145,7 @@ public final class ObjectLexicographicIterator<T, E> implements Spliterator<ISel
         this.selection = new ObjectSelection<>(
                 combination,
                 orderedItems,
-                (T[]) Array.newInstance(items[0].getClass(), selectionLength),
+                (T[]) Array.newInstance(items.getClass().getComponentType(), selectionLength),
                 environmentSupplier.get());
     }
 
@@ -149,36 +156,126 @@ public final class ObjectLexicographicIterator<T, E> implements Spliterator<ISel
     private ObjectLexicographicIterator(ObjectLexicographicIterator<T, E> other) {
         environmentSupplier = other.environmentSupplier;
         orderedItems = other.orderedItems;
-        combination = other.combination.clone();
-
-        long currentIndex = other.combination.index();
-        long newStart = currentIndex + ((other.combination.maxIndex() - currentIndex) / 2);
-        other.combination.advanceTo(newStart);
-        combination.setMaxIndex(newStart);
+        minimumSplitSize = other.minimumSplitSize;
+        bigMinimumSplitSize = other.bigMinimumSplitSize;
+        combination = other.combination.split();
 
         T[] selectionCopy = Arrays.copyOf(other.selection.selection, other.selection.selection.length);
         Arrays.fill(selectionCopy, null);
         selection = new ObjectSelection<>(combination, orderedItems, selectionCopy, environmentSupplier.get());
+        if (other.prefixFilter != null) {
+            setPrefixFilter(other.prefixFilter);
+        }
     }
 
     @Override
     public int characteristics() {
-        return ORDERED | DISTINCT | SIZED | NONNULL | IMMUTABLE | SUBSIZED;
+        return combination.hasLongIndex() && prefixFilter == null
+                ? ORDERED | DISTINCT | SIZED | NONNULL | IMMUTABLE | SUBSIZED
+                : ORDERED | DISTINCT | NONNULL | IMMUTABLE;
     }
 
     @Override
     public long estimateSize() {
-        return combination.maxIndex() - combination.index();
+        return combination.remaining();
     }
 
     @Override
-    public Spliterator<ISelection<T[], E>> trySplit() {
-        return (estimateSize() < MINIMUM_SPLIT_SIZE) ? null : new ObjectLexicographicIterator<>(this);
+    public ObjectLexicographicIterator<T, E> trySplit() {
+        if (minimumSplitSize <= 0) {
+            if (combination.hasLongIndex()) {
+                minimumSplitSize = CombinationStream.getAdaptiveMinimumSplitSize(estimateSize());
+            } else {
+                bigMinimumSplitSize = CombinationStream.getAdaptiveMinimumSplitSize(combination.bigRemaining());
+                minimumSplitSize = bigMinimumSplitSize.bitLength() < Long.SIZE
+                        ? bigMinimumSplitSize.longValue()
+                        : Long.MAX_VALUE;
+            }
+        }
+        if (bigMinimumSplitSize != null) {
+            return combination.bigRemaining().compareTo(bigMinimumSplitSize) < 0 ? null : new ObjectLexicographicIterator<>(this);
+        }
+        return (estimateSize() < minimumSplitSize) ? null : new ObjectLexicographicIterator<>(this);
+    }
+
+    /**
+     * {@return the minimum number of remaining combinations for which this iterator can be split}
+     * Returns 0 if the size is chosen adaptively on the first split.
+     */
+    public long getMinimumSplitSize() {
+        return minimumSplitSize;
+    }
+
+    /**
+     * Sets the minimum number of remaining combinations for which this iterator can be split.
+     * Thus, each chunk processed by a parallel stream contains at least half this many combinations.
+     * If set to 0 (the default), the size is chosen adaptively on the first split
+     * (see {@link CombinationStream#getAdaptiveMinimumSplitSize(long)}), based on the exact number of remaining
+     * combinations even if it exceeds {@link Long#MAX_VALUE}.
+     * The size is inherited by all iterators split off this iterator.
+     *
+     * @param minimumSplitSize the minimum split size
+     */
+    public void setMinimumSplitSize(long minimumSplitSize) {
+        if (minimumSplitSize < 0) {
+            throw new IllegalArgumentException(String.valueOf(minimumSplitSize));
+        }
+        this.minimumSplitSize = minimumSplitSize;
+        bigMinimumSplitSize = null;
+    }
+
+    /**
+     * Sets a filter that rejects prefixes of combinations, which causes all combinations with a rejected prefix to be
+     * skipped (see {@link IPrefixFilter}).
+     * The filter is called with a selection array of this iterator and must be thread-safe if this iterator is
+     * split.
+     * As the number of skipped combinations is not known in advance, this iterator is no longer {@link #SIZED} if a
+     * filter is set.
+     *
+     * @param prefixFilter the prefix filter, or {@code null} to remove the filter
+     */
+    public void setPrefixFilter(IPrefixFilter<T[]> prefixFilter) {
+        this.prefixFilter = prefixFilter;
+        prefixSelection = prefixFilter == null ? null : Arrays.copyOf(selection.selection, orderedItems.length);
+        checkAllPrefixes = true;
+    }
+
+    /**
+     * Skips all combinations with a prefix that is rejected by the prefix filter.
+     * Only tests prefixes that changed since the last accepted combination.
+     * @return {@code true} if the current combination is accepted and {@code false} if the enumeration has ended
+     */
+    private boolean skipRejectedCombinations() {
+        final int t = orderedItems.length;
+        final int[] selectionIndices = combination.selectionIndices();
+        int position = checkAllPrefixes ? t - 1 : combination.lastChangedIndex();
+        checkAllPrefixes = false;
+        while (true) {
+            for (int i = 0; i <= position; i++) {
+                prefixSelection[i] = orderedItems[i][selectionIndices[i]];
+            }
+            int length = t - position;
+            while (length <= t && prefixFilter.test(prefixSelection, length)) {
+                length++;
+            }
+            if (length > t) {
+                return true;
+            }
+            if (!combination.skip(length)) {
+                exhausted = true;
+                return false;
+            }
+            position = combination.lastChangedIndex();
+        }
     }
 
     @Override
     public boolean tryAdvance(Consumer<? super ISelection<T[], E>> action) {
+        if (exhausted || (prefixFilter != null && !skipRejectedCombinations())) {
+            return false;
+        }
         action.accept(selection);
-        return combination.advance();
+        exhausted = !combination.advance();
+        return true;
     }
 }
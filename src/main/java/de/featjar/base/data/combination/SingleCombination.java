@@ -21,6 +21,7 @@
 package de.featjar.base.data.combination;
 
 import de.featjar.base.data.BinomialCalculator;
+import java.math.BigInteger;
 import java.util.Arrays;
 
 /**
@@ -28,20 +29,12 @@ import java.util.Arrays;
  *
  * @author Sebastian Krieter
  */
-final class SingleCombination implements ICombination {
+final class SingleCombination extends ACombination {
 
     /**
      * The indices of the elements.
      */
     private final int[] selectionIndices;
-    /**
-     * The index of current internal combination
-     */
-    long combinationIndex;
-    /**
-     * The maximum index of the combination enumeration
-     */
-    long maxCombinationIndex;
 
     private int maxSelectionIndex;
     private int start;
@@ -95,7 +88,7 @@ final class SingleCombination implements ICombination {
         this.end = end;
         maxSelectionIndex = n;
         binomialCalculator = new BinomialCalculator(end - start, n);
-        maxCombinationIndex = binomialCalculator.binomial() - 1;
+        initializeIndexSpace(binomialCalculator.bigBinomial());
         reset();
     }
 
@@ -104,14 +97,13 @@ final class SingleCombination implements ICombination {
      * @param other the combination to copy
      */
     SingleCombination(SingleCombination other, int[] selectionIndices) {
+        super(other);
         this.selectionIndices = selectionIndices;
         start = other.start;
         end = other.end;
         lastChangedSelectionIndex = other.lastChangedSelectionIndex;
         maxSelectionIndex = other.maxSelectionIndex;
         binomialCalculator = other.binomialCalculator;
-        maxCombinationIndex = other.maxCombinationIndex;
-        combinationIndex = other.combinationIndex;
     }
 
     @Override
@@ -119,24 +111,6 @@ final class SingleCombination implements ICombination {
         return end - start;
     }
 
-    @Override
-    public long index() {
-        return combinationIndex;
-    }
-
-    @Override
-    public long maxIndex() {
-        return maxCombinationIndex;
-    }
-
-    @Override
-    public void setMaxIndex(long newMaxCombinationIndex) {
-        if (newMaxCombinationIndex < 0 || combinationIndex > newMaxCombinationIndex) {
-            throw new IndexOutOfBoundsException(newMaxCombinationIndex);
-        }
-        maxCombinationIndex = newMaxCombinationIndex;
-    }
-
     @Override
     public int[] selectionIndices() {
         return selectionIndices;
@@ -160,7 +134,7 @@ final class SingleCombination implements ICombination {
 
     @Override
     public void reset() {
-        combinationIndex = 0;
+        resetIndex();
         for (int i = start; i < end; i++) {
             selectionIndices[i] = i - start;
         }
@@ -169,10 +143,9 @@ final class SingleCombination implements ICombination {
 
     @Override
     public boolean advance() {
-        if (combinationIndex >= maxCombinationIndex) {
+        if (!incrementIndex()) {
             return false;
         }
-        combinationIndex++;
 
         int i = start;
         for (; i < end - 1; i++) {
@@ -192,18 +165,96 @@ final class SingleCombination implements ICombination {
         return true;
     }
 
+    @Override
+    public int lastChangedIndex() {
+        return lastChangedSelectionIndex;
+    }
+
+    @Override
+    public boolean skip(int length) {
+        if (length < 1 || length > t()) {
+            throw new IllegalArgumentException(String.valueOf(length));
+        }
+        if (!moveToBlockEnd(end - length)) {
+            advanceTo(bigMaxIndex());
+            return false;
+        }
+        return advance();
+    }
+
+    /**
+     * Changes this combination to the last in the enumeration that agrees with the current combination
+     * in all positions from the given position on.
+     * If the position is the end of the combination, this is the last combination in the enumeration.
+     * @param position the absolute position within the selectionIndices array
+     * @return whether the index of that combination is at most the maximum index,
+     * otherwise this combination is not changed
+     */
+    boolean moveToBlockEnd(int position) {
+        final int k = position - start;
+        if (k == 0) {
+            return true;
+        }
+        final int pivot = position == end ? maxSelectionIndex : selectionIndices[position];
+        final boolean changed;
+        if (hasLongIndex()) {
+            long offset = binomialCalculator.binomial(pivot, k) - 1;
+            for (int j = start; j < position; j++) {
+                offset -= binomialCalculator.binomial(selectionIndices[j], j - start + 1);
+            }
+            changed = addToIndex(offset);
+        } else {
+            BigInteger offset = binomialCalculator.bigBinomial(pivot, k).subtract(BigInteger.ONE);
+            for (int j = start; j < position; j++) {
+                offset = offset.subtract(binomialCalculator.bigBinomial(selectionIndices[j], j - start + 1));
+            }
+            changed = addToIndex(offset);
+        }
+        if (changed) {
+            for (int j = start; j < position; j++) {
+                selectionIndices[j] = pivot - (position - j);
+            }
+            lastChangedSelectionIndex = position - 1;
+        }
+        return changed;
+    }
+
+    /**
+     * {@return the position after the last position of this combination within the selectionIndices array}
+     */
+    int end() {
+        return end;
+    }
+
     private void resetLowerElements(int i) {
         lastChangedSelectionIndex = i;
         for (int j = i - 1; j >= start; j--) {
-            selectionIndices[j] = j;
+            selectionIndices[j] = j - start;
         }
     }
 
+    @Override
     public void advanceTo(long newIndex) {
+        if (!hasLongIndex()) {
+            advanceTo(BigInteger.valueOf(newIndex));
+            return;
+        }
         if (newIndex < 0 || newIndex > maxCombinationIndex) {
             throw new IndexOutOfBoundsException(newIndex);
         }
-        combinationIndex = newIndex;
+        setIndex(newIndex);
+        binomialCalculator.combination(newIndex, selectionIndices, start);
+        lastChangedSelectionIndex = end - 1;
+    }
+
+    @Override
+    public void advanceTo(BigInteger newIndex) {
+        if (hasLongIndex()) {
+            advanceTo(newIndex.longValueExact());
+            return;
+        }
+        checkIndex(newIndex);
+        setIndex(newIndex);
         binomialCalculator.combination(newIndex, selectionIndices, start);
         lastChangedSelectionIndex = end - 1;
     }
@@ -47,15 +47,58 @@ public class CounterIdentifier extends AIdentifier {
         return String.valueOf(counter);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return counter == ((CounterIdentifier) o).counter;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(counter);
+    }
+
     /**
      * Creates counter identifiers by incrementing a number.
+     * Thread-safe and lock-free.
      */
     public static class Factory implements IIdentifierFactory {
-        long counter = 0;
+        private final IdentifierCounter counter;
+
+        /**
+         * Creates a factory that numbers identifiers consecutively, starting at 1.
+         */
+        public Factory() {
+            this(1);
+        }
+
+        /**
+         * Creates a factory in which each thread reserves blocks of consecutive numbers at once.
+         * This avoids contention when many threads create identifiers in parallel,
+         * but identifiers are not ordered by creation time across threads.
+         *
+         * @param blockSize the number of consecutive numbers reserved per thread at once
+         */
+        public Factory(int blockSize) {
+            counter = new IdentifierCounter(blockSize);
+        }
 
         @Override
         public CounterIdentifier get() {
-            return new CounterIdentifier(++counter, this);
+            return new CounterIdentifier(counter.next(), this);
+        }
+
+        /**
+         * Reserves a range of consecutive numbers, which are not used by this factory's {@link #get()} afterwards.
+         * Allows callers to create many identifiers with {@link CounterIdentifier#CounterIdentifier(long, Factory)}
+         * without accessing the factory for each of them.
+         *
+         * @param count the number of identifiers
+         * @return the first number of the range
+         */
+        public long reserve(int count) {
+            return counter.reserve(count);
         }
 
         @Override
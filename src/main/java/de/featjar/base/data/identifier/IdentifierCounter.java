@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.identifier;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free counter for generating unique identifier numbers from multiple threads.
+ * With a block size greater than one, each thread reserves a block of consecutive numbers at once and hands them
+ * out without touching the shared counter, which avoids contention on its cache line.
+ * In this case, numbers are unique, but not ordered across threads.
+ */
+final class IdentifierCounter {
+
+    private final AtomicLong counter = new AtomicLong();
+    private final int blockSize;
+    private final ThreadLocal<long[]> blocks;
+
+    /**
+     * Creates a new counter.
+     *
+     * @param blockSize the number of consecutive numbers reserved per thread at once
+     */
+    IdentifierCounter(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException(String.valueOf(blockSize));
+        }
+        this.blockSize = blockSize;
+        blocks = blockSize == 1 ? null : ThreadLocal.withInitial(() -> new long[2]);
+    }
+
+    /**
+     * {@return the next unused number, starting at 1}
+     */
+    long next() {
+        if (blocks == null) {
+            return counter.incrementAndGet();
+        }
+        final long[] block = blocks.get();
+        if (block[0] == block[1]) {
+            block[0] = reserve(blockSize);
+            block[1] = block[0] + blockSize;
+        }
+        return block[0]++;
+    }
+
+    /**
+     * Reserves a range of consecutive unused numbers.
+     *
+     * @param count the number of numbers
+     * @return the first number of the range
+     */
+    long reserve(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(String.valueOf(count));
+        }
+        return counter.getAndAdd(count) + 1;
+    }
+}
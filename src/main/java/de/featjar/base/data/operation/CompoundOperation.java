@@ -93,6 +93,18 @@ public abstract class CompoundOperation implements IOperation {
         return true;
     }
 
+    @Override
+    public long estimateSize() {
+        if (subOperations == null) {
+            return IOperation.super.estimateSize();
+        }
+        long size = IOperation.super.estimateSize();
+        for (IOperation operation : subOperations) {
+            size += operation.estimateSize();
+        }
+        return size;
+    }
+
     private void partialUndo(ListIterator<IOperation> listIterator) {
         listIterator.previous();
         while (listIterator.hasPrevious()) {
@@ -20,55 +20,583 @@
  */
 package de.featjar.base.data.operation;
 
-import java.util.ArrayDeque;
+import de.featjar.base.FeatJAR;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 
 /**
  * A history of {@link IOperation operations}. Stores a limited number of executed and undone operations in order of their application. Allows to undo and redo operations.
+ * <p>
+ * The number of stored operations can be limited by {@link #setLimit(int) count} and by
+ * {@link #setMemoryLimit(long) estimated memory}.
+ * If a limit is exceeded, the oldest operations are discarded or, if {@link #setSpillDirectory(Path) spilling} is
+ * enabled, serialized to a temporary file and read back when they are undone again.
+ * Only {@link ISpillableOperation spillable} operations are spilled, all other operations are discarded.
+ * A history that spills operations should be {@link #close() closed} when it is no longer needed.
+ * <p>
+ * If {@link #setCheckpoints(ICheckpointable, int) checkpoints} are enabled, the history periodically captures the
+ * state of a {@link ICheckpointable checkpointable} object.
+ * Then, {@link #undo(int)} and {@link #redo(int)} restore the checkpoint nearest to the target and only replay
+ * the operations in between.
  *
  * @author Sebastian Krieter
  */
-public class History {
+public class History implements AutoCloseable {
 
-    private ArrayDeque<IOperation> appliedOperations = new ArrayDeque<>();
-    private ArrayDeque<IOperation> undoneOperations = new ArrayDeque<>();
+    private static final class Entry {
+        private IOperation operation;
+        private final long size;
+        private long spillOffset = -1;
+        private int spillLength;
+
+        private Entry(IOperation operation) {
+            this.operation = operation;
+            size = operation.estimateSize();
+        }
+    }
+
+    private static final class Checkpoint {
+        private final Object state;
+        private final long size;
+
+        private Checkpoint(Object state, long size) {
+            this.state = state;
+            this.size = size;
+        }
+    }
+
+    /**
+     * The entries of all stored operations, starting at index {@link #firstEntry}.
+     * The operation at position p transforms the state after p applied operations into the state after p + 1 applied
+     * operations and is stored at index {@code firstEntry + p - firstPosition}.
+     */
+    private final ArrayList<Entry> entries = new ArrayList<>();
+
+    private int firstEntry;
+    private long firstPosition;
+    private long position;
 
     private int limit = Integer.MAX_VALUE;
+    private long memoryLimit = Long.MAX_VALUE;
+    private long memorySize;
+
+    private ICheckpointable<?> checkpointable;
+    private int checkpointInterval;
+    private final TreeMap<Long, Checkpoint> checkpoints = new TreeMap<>();
+
+    /**
+     * Minimum number of unused bytes in the spill file before it is compacted.
+     */
+    private static final long MINIMUM_COMPACTION_SIZE = 1 << 16;
+
+    private Path spillDirectory;
+    private FileChannel spillChannel;
+    private long spillFileSize;
+
+    /**
+     * The number of bytes in the spill file that belong to stored operations.
+     */
+    private long liveSpillSize;
+
+    /**
+     * The lowest position at which an operation may still be held in memory and can be spilled.
+     */
+    private long spillPosition;
 
     public boolean apply(IOperation operation) {
         if (operation.firstDo()) {
-            undoneOperations.clear();
-            if (appliedOperations.size() >= limit) {
-                appliedOperations.removeFirst();
+            removeUndoneOperations();
+            final Entry entry = new Entry(operation);
+            entries.add(entry);
+            memorySize += entry.size;
+            position++;
+            if (checkpointable != null) {
+                final Map.Entry<Long, Checkpoint> lastCheckpoint = checkpoints.lastEntry();
+                if (lastCheckpoint == null || position - lastCheckpoint.getKey() >= checkpointInterval) {
+                    addCheckpoint();
+                }
             }
-            appliedOperations.add(operation);
+            trim();
             return true;
         }
         return false;
     }
 
     public boolean undo() {
-        if (!appliedOperations.isEmpty()) {
-            IOperation operation = appliedOperations.removeLast();
-            if (operation.undo()) {
-                undoneOperations.add(operation);
+        if (position > firstPosition) {
+            final IOperation operation = load(position - 1);
+            if (operation != null && operation.undo()) {
+                position--;
                 return true;
-            } else {
-                appliedOperations.add(operation);
             }
         }
         return false;
     }
 
     public boolean redo() {
-        if (!undoneOperations.isEmpty()) {
-            IOperation operation = undoneOperations.removeLast();
-            if (operation.redo()) {
-                appliedOperations.add(operation);
+        if (position < getLastPosition()) {
+            final IOperation operation = load(position);
+            if (operation != null && operation.redo()) {
+                position++;
+                trim();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Undoes the given number of operations.
+     * If checkpoints are enabled and a checkpoint is closer to the target than the current state,
+     * the checkpoint is restored first and only the remaining operations are undone or redone.
+     *
+     * @param steps the number of operations to undo
+     * @return whether all operations were undone, {@code false} if there are not enough operations to undo or some
+     *     operation failed
+     */
+    public boolean undo(int steps) {
+        return steps >= 0 && moveTo(position - steps);
+    }
+
+    /**
+     * Redoes the given number of operations.
+     * If checkpoints are enabled and a checkpoint is closer to the target than the current state,
+     * the checkpoint is restored first and only the remaining operations are undone or redone.
+     *
+     * @param steps the number of operations to redo
+     * @return whether all operations were redone, {@code false} if there are not enough operations to redo or some
+     *     operation failed
+     */
+    public boolean redo(int steps) {
+        return steps >= 0 && moveTo(position + steps);
+    }
+
+    private boolean moveTo(long target) {
+        if (target < firstPosition || target > getLastPosition()) {
+            return false;
+        }
+        if (checkpointable != null) {
+            final Long floor = checkpoints.floorKey(target);
+            final Long ceiling = checkpoints.ceilingKey(target);
+            final Long nearest =
+                    floor == null || (ceiling != null && ceiling - target < target - floor) ? ceiling : floor;
+            if (nearest != null && Math.abs(target - nearest) < Math.abs(target - position)) {
+                restoreCheckpoint(checkpoints.get(nearest));
+                position = nearest;
+            }
+        }
+        while (position > target) {
+            if (!undo()) {
+                return false;
+            }
+        }
+        while (position < target) {
+            if (!redo()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@return the number of operations that can be undone}
+     */
+    public int getUndoCount() {
+        return (int) (position - firstPosition);
+    }
+
+    /**
+     * {@return the number of operations that can be redone}
+     */
+    public int getRedoCount() {
+        return (int) (getLastPosition() - position);
+    }
+
+    /**
+     * {@return the maximum number of operations that can be undone}
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Sets the maximum number of operations that can be undone.
+     * Older operations are discarded.
+     *
+     * @param limit the limit
+     */
+    public void setLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        this.limit = limit;
+        trim();
+    }
+
+    /**
+     * {@return the maximum number of bytes estimated to be retained by the operations and checkpoints in memory}
+     */
+    public long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    /**
+     * Sets the maximum number of bytes estimated to be retained by the operations and checkpoints in memory.
+     * If this limit is exceeded, the oldest operations that can be undone are spilled to disk or discarded.
+     * The estimates are obtained from {@link IOperation#estimateSize()} and {@link ICheckpointable#estimateSize(Object)}.
+     * Operations that can be redone are never discarded due to this limit, but may be spilled to disk.
+     *
+     * @param memoryLimit the memory limit
+     */
+    public void setMemoryLimit(long memoryLimit) {
+        if (memoryLimit < 0) {
+            throw new IllegalArgumentException("memory limit must not be negative");
+        }
+        this.memoryLimit = memoryLimit;
+        trim();
+    }
+
+    /**
+     * {@return the number of bytes estimated to be retained by the operations and checkpoints in memory}
+     */
+    public long getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * {@return the number of checkpoints currently stored}
+     */
+    public int getCheckpointCount() {
+        return checkpoints.size();
+    }
+
+    /**
+     * Enables periodic checkpoints of the given object.
+     * A checkpoint of the current state is created immediately and after every given number of applied operations.
+     * All operations applied to this history must modify only the state captured by these checkpoints.
+     *
+     * @param <S> the type of the checkpoints
+     * @param checkpointable the checkpointable object, or {@code null} to disable checkpoints
+     * @param interval the number of applied operations between two checkpoints
+     */
+    public <S> void setCheckpoints(ICheckpointable<S> checkpointable, int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        removeCheckpoints(checkpoints);
+        this.checkpointable = checkpointable;
+        checkpointInterval = interval;
+        if (checkpointable != null) {
+            addCheckpoint();
+            trim();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addCheckpoint() {
+        final ICheckpointable<Object> objectCheckpointable = (ICheckpointable<Object>) checkpointable;
+        final Object state = objectCheckpointable.createCheckpoint();
+        final Checkpoint checkpoint = new Checkpoint(state, objectCheckpointable.estimateSize(state));
+        memorySize += checkpoint.size;
+        final Checkpoint replacedCheckpoint = checkpoints.put(position, checkpoint);
+        if (replacedCheckpoint != null) {
+            memorySize -= replacedCheckpoint.size;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void restoreCheckpoint(Checkpoint checkpoint) {
+        ((ICheckpointable<Object>) checkpointable).restoreCheckpoint(checkpoint.state);
+    }
+
+    private void removeCheckpoints(Map<Long, Checkpoint> checkpointMap) {
+        for (Checkpoint checkpoint : checkpointMap.values()) {
+            memorySize -= checkpoint.size;
+        }
+        checkpointMap.clear();
+    }
+
+    /**
+     * {@return whether old operations are spilled to disk instead of being discarded}
+     */
+    public boolean isSpilling() {
+        return spillChannel != null;
+    }
+
+    /**
+     * {@return the number of bytes in the spill file, including space that is not yet reclaimed}
+     */
+    public long getSpillFileSize() {
+        return spillFileSize;
+    }
+
+    /**
+     * Enables or disables spilling of old operations to disk.
+     * When spilling is enabled, operations that exceed the {@link #setMemoryLimit(long) memory limit} are serialized
+     * to a temporary file in the given directory, which is deleted when spilling is disabled.
+     * When spilling is disabled, all spilled operations are read back into memory.
+     *
+     * @param directory the directory for the temporary file, or {@code null} to disable spilling
+     * @throws IOException if the temporary file cannot be created
+     */
+    public void setSpillDirectory(Path directory) throws IOException {
+        if (spillChannel != null) {
+            for (long p = firstPosition; p < getLastPosition(); p++) {
+                if (load(p) == null) {
+                    removeOldestEntries(p + 1);
+                }
+            }
+            spillChannel.close();
+            spillChannel = null;
+            spillDirectory = null;
+            spillFileSize = 0;
+            liveSpillSize = 0;
+            for (int i = firstEntry; i < entries.size(); i++) {
+                entries.get(i).spillOffset = -1;
+            }
+        }
+        if (directory != null) {
+            spillChannel = createSpillFile(Objects.requireNonNull(directory));
+            spillDirectory = directory;
+            spillPosition = firstPosition;
+            trim();
+        }
+    }
+
+    /**
+     * Removes all operations and checkpoints from this history and disables spilling.
+     * The current state is kept, and if checkpoints are enabled, a new checkpoint of it is created.
+     */
+    public void clear() {
+        removeUndoneOperations();
+        removeOldestEntries(position);
+        removeCheckpoints(checkpoints);
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException e) {
+                FeatJAR.log().error(e);
+            }
+            spillChannel = null;
+            spillDirectory = null;
+            spillFileSize = 0;
+            liveSpillSize = 0;
+        }
+        if (checkpointable != null) {
+            addCheckpoint();
+        }
+    }
+
+    /**
+     * Closes this history by disabling checkpoints and {@link #clear() clearing} it, which deletes the spill file.
+     */
+    @Override
+    public void close() {
+        checkpointable = null;
+        clear();
+    }
+
+    private static FileChannel createSpillFile(Path directory) throws IOException {
+        final Path path = Files.createTempFile(directory, "history", ".bin");
+        return FileChannel.open(
+                path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    private long getLastPosition() {
+        return firstPosition + entries.size() - firstEntry;
+    }
+
+    private Entry getEntry(long operationPosition) {
+        return entries.get(firstEntry + (int) (operationPosition - firstPosition));
+    }
+
+    private void trim() {
+        while (position > firstPosition) {
+            if (position - firstPosition > limit) {
+                removeOldestEntries(firstPosition + 1);
+            } else if (memorySize <= memoryLimit) {
+                break;
+            } else if (!spillOldestEntry()) {
+                long freeablePosition = firstPosition;
+                while (freeablePosition < position
+                        && getEntry(freeablePosition).operation == null
+                        && !checkpoints.containsKey(freeablePosition)) {
+                    freeablePosition++;
+                }
+                if (freeablePosition == position) {
+                    break;
+                }
+                removeOldestEntries(freeablePosition + 1);
+            }
+        }
+    }
+
+    private void removeUndoneOperations() {
+        final int end = firstEntry + (int) (position - firstPosition);
+        for (int i = end; i < entries.size(); i++) {
+            release(entries.get(i));
+        }
+        entries.subList(end, entries.size()).clear();
+        removeCheckpoints(checkpoints.tailMap(position, false));
+        reclaimSpillFile();
+    }
+
+    private void removeOldestEntries(long newFirstPosition) {
+        while (firstPosition < newFirstPosition) {
+            release(entries.get(firstEntry));
+            entries.set(firstEntry++, null);
+            firstPosition++;
+        }
+        removeCheckpoints(checkpoints.headMap(firstPosition, false));
+        if (firstEntry > 64 && firstEntry * 2 > entries.size()) {
+            entries.subList(0, firstEntry).clear();
+            firstEntry = 0;
+        }
+        reclaimSpillFile();
+    }
+
+    private void release(Entry entry) {
+        if (entry.operation != null) {
+            memorySize -= entry.size;
+        }
+        if (entry.spillOffset >= 0) {
+            liveSpillSize -= entry.spillLength;
+        }
+    }
+
+    /**
+     * Reclaims the space of discarded operations in the spill file.
+     * The file is truncated if it contains no stored operations, and otherwise compacted into a new file once the
+     * unused space exceeds the used space.
+     */
+    private void reclaimSpillFile() {
+        if (spillChannel == null) {
+            return;
+        }
+        final long unusedSize = spillFileSize - liveSpillSize;
+        try {
+            if (liveSpillSize == 0 && spillFileSize > 0) {
+                spillChannel.truncate(0);
+                spillFileSize = 0;
+            } else if (unusedSize > liveSpillSize && unusedSize >= MINIMUM_COMPACTION_SIZE) {
+                compactSpillFile();
+            }
+        } catch (IOException e) {
+            FeatJAR.log().error(e);
+        }
+    }
+
+    private void compactSpillFile() throws IOException {
+        final FileChannel newSpillChannel = createSpillFile(spillDirectory);
+        try {
+            long newSpillFileSize = 0;
+            final long[] newOffsets = new long[entries.size() - firstEntry];
+            for (int i = firstEntry; i < entries.size(); i++) {
+                final Entry entry = entries.get(i);
+                if (entry.spillOffset >= 0) {
+                    long transferred = 0;
+                    while (transferred < entry.spillLength) {
+                        transferred += spillChannel.transferTo(
+                                entry.spillOffset + transferred, entry.spillLength - transferred, newSpillChannel);
+                    }
+                    newOffsets[i - firstEntry] = newSpillFileSize;
+                    newSpillFileSize += entry.spillLength;
+                }
+            }
+            for (int i = firstEntry; i < entries.size(); i++) {
+                final Entry entry = entries.get(i);
+                if (entry.spillOffset >= 0) {
+                    entry.spillOffset = newOffsets[i - firstEntry];
+                }
+            }
+            spillFileSize = newSpillFileSize;
+        } catch (IOException e) {
+            newSpillChannel.close();
+            throw e;
+        }
+        final FileChannel oldSpillChannel = spillChannel;
+        spillChannel = newSpillChannel;
+        oldSpillChannel.close();
+    }
+
+    private boolean spillOldestEntry() {
+        if (spillChannel == null) {
+            return false;
+        }
+        spillPosition = Math.max(spillPosition, firstPosition);
+        final long lastPosition = getLastPosition();
+        for (; spillPosition < lastPosition; spillPosition++) {
+            final Entry entry = getEntry(spillPosition);
+            if (entry.operation != null) {
+                if (!(entry.operation instanceof ISpillableOperation) || (entry.spillOffset < 0 && !write(entry))) {
+                    if (spillPosition < position) {
+                        return false;
+                    }
+                    continue;
+                }
+                entry.operation = null;
+                memorySize -= entry.size;
+                spillPosition++;
                 return true;
-            } else {
-                undoneOperations.add(operation);
             }
         }
         return false;
     }
+
+    private boolean write(Entry entry) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(entry.operation);
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            final long offset = spillFileSize;
+            while (buffer.hasRemaining()) {
+                spillChannel.write(buffer, offset + buffer.position());
+            }
+            entry.spillOffset = offset;
+            entry.spillLength = buffer.capacity();
+            spillFileSize += entry.spillLength;
+            liveSpillSize += entry.spillLength;
+            return true;
+        } catch (IOException e) {
+            FeatJAR.log().error(e);
+            return false;
+        }
+    }
+
+    private IOperation load(long operationPosition) {
+        final Entry entry = getEntry(operationPosition);
+        if (entry.operation == null) {
+            try {
+                final ByteBuffer buffer = ByteBuffer.allocate(entry.spillLength);
+                while (buffer.hasRemaining()) {
+                    if (spillChannel.read(buffer, entry.spillOffset + buffer.position()) < 0) {
+                        throw new IOException("unexpected end of spill file");
+                    }
+                }
+                try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.array()))) {
+                    entry.operation = (IOperation) in.readObject();
+                }
+            } catch (IOException | ClassNotFoundException e) {
+                FeatJAR.log().error(e);
+                return null;
+            }
+            memorySize += entry.size;
+            spillPosition = Math.min(spillPosition, operationPosition);
+        }
+        return entry.operation;
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.operation;
+
+/**
+ * An object whose state can be captured in checkpoints and restored later.
+ * Used by {@link History} to jump over many operations at once instead of undoing or redoing them one by one.
+ *
+ * @param <S> the type of the checkpoints
+ */
+public interface ICheckpointable<S> {
+
+    /**
+     * {@return a checkpoint of the current state}
+     * The checkpoint must not be affected by later modifications of the state.
+     */
+    S createCheckpoint();
+
+    /**
+     * Restores the state captured in the given checkpoint.
+     *
+     * @param checkpoint the checkpoint
+     */
+    void restoreCheckpoint(S checkpoint);
+
+    /**
+     * {@return an estimate of the number of bytes retained by the given checkpoint}
+     *
+     * @param checkpoint the checkpoint
+     */
+    default long estimateSize(S checkpoint) {
+        return 0;
+    }
+}
@@ -36,4 +36,13 @@ public interface IOperation {
     boolean redo();
 
     String getName();
+
+    /**
+     * {@return an estimate of the number of bytes retained by this operation}
+     * Used by {@link History} to limit its memory consumption.
+     * By default, returns a small constant that is appropriate for operations that only reference existing objects.
+     */
+    default long estimateSize() {
+        return 64;
+    }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.operation;
+
+import java.io.Serializable;
+
+/**
+ * An {@link IOperation operation} that can be spilled to disk by a {@link History}.
+ * A spilled operation is serialized and later replaced by a deserialized copy, which must still be able to undo and
+ * redo the operation.
+ * Thus, implementations must not store references to the objects they modify, but locate them when they are
+ * executed (e.g., by identifiers).
+ */
+public interface ISpillableOperation extends IOperation, Serializable {}
@@ -22,8 +22,12 @@ package de.featjar.base.io.graphviz;
 
 import de.featjar.base.data.Result;
 import de.featjar.base.io.format.IFormat;
+import de.featjar.base.io.output.AOutputMapper;
 import de.featjar.base.tree.structure.ITree;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -62,28 +66,70 @@ public class GraphVizTreeFormat<T extends ITree<T>> implements IFormat<T> {
 
     @Override
     public Result<String> serialize(T tree) {
-        List<? extends T> descendants = tree.getDescendantsAsLevelOrder();
-        return Result.of(String.format(
-                "digraph {%n%s%s%s%n%s%n%s%n}",
-                globalOptions("graph"),
-                globalOptions(
-                        "node",
-                        option("fontname", "Helvetica"),
-                        option("style", "filled"),
-                        option("fillcolor", "beige"),
-                        option("shape", "record")),
-                globalOptions("edge", option("fontname", "Helvetica"), option("fontsize", "10")),
-                descendants.stream()
-                        .skip(includeRoot ? 0 : 1)
-                        .distinct()
-                        .map(this::getNode)
-                        .collect(Collectors.joining("\n")),
-                descendants.stream()
-                        .skip(includeRoot ? 0 : 1)
-                        .distinct()
-                        .map(this::getEdge)
-                        .filter(s -> !s.isEmpty())
-                        .collect(Collectors.joining("\n"))));
+        StringBuilder sb = new StringBuilder();
+        try {
+            write(tree, sb);
+        } catch (IOException e) {
+            return Result.empty(e);
+        }
+        return Result.of(sb.toString());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Streams the tree to the output without building the entire string in memory.
+     */
+    @Override
+    public void write(T tree, AOutputMapper outputMapper) throws IOException {
+        Writer writer = outputMapper.get().getWriter();
+        write(tree, writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes the given tree to the given output while traversing it.
+     * Only the set of already visited nodes is kept in memory, which is required to write every node once.
+     *
+     * @param tree the tree
+     * @param output the output
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(T tree, Appendable output) throws IOException {
+        output.append("digraph {").append(System.lineSeparator());
+        output.append(globalOptions("graph"));
+        output.append(globalOptions(
+                "node",
+                option("fontname", "Helvetica"),
+                option("style", "filled"),
+                option("fillcolor", "beige"),
+                option("shape", "record")));
+        output.append(globalOptions("edge", option("fontname", "Helvetica"), option("fontsize", "10")));
+        output.append(System.lineSeparator());
+        boolean first = true;
+        for (Iterator<? extends T> it = descendants(tree); it.hasNext(); ) {
+            if (!first) {
+                output.append('\n');
+            }
+            output.append(getNode(it.next()));
+            first = false;
+        }
+        output.append(System.lineSeparator());
+        first = true;
+        for (Iterator<? extends T> it = descendants(tree); it.hasNext(); ) {
+            String edge = getEdge(it.next());
+            if (!edge.isEmpty()) {
+                if (!first) {
+                    output.append('\n');
+                }
+                output.append(edge);
+                first = false;
+            }
+        }
+        output.append(System.lineSeparator()).append('}');
+    }
+
+    private Iterator<? extends T> descendants(T tree) {
+        return tree.levelOrderStream().skip(includeRoot ? 0 : 1).distinct().iterator();
     }
 
     protected String getNodeIdentifier(T tree) {
@@ -22,8 +22,11 @@ package de.featjar.base.io.output;
 
 import de.featjar.base.io.IIOObject;
 import de.featjar.base.io.format.IFormat;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.Objects;
 
@@ -82,6 +85,15 @@ public abstract class AOutput implements IIOObject {
         outputStream.write(text.getBytes(charset));
     }
 
+    /**
+     * {@return a buffered writer that writes text with this output's charset to this output}
+     * Useful to stream large texts instead of building them in memory first.
+     * The writer must be flushed after writing. Closing the writer closes this output.
+     */
+    public Writer getWriter() {
+        return new BufferedWriter(new OutputStreamWriter(outputStream, charset));
+    }
+
     public void writeInt(int value) throws IOException {
         final byte[] integerBytes = new byte[Integer.BYTES];
         integerBytes[0] = (byte) ((value >>> 24) & 0xff);
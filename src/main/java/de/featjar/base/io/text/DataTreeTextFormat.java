@@ -20,12 +20,16 @@
  */
 package de.featjar.base.io.text;
 
+import de.featjar.base.data.Problem;
 import de.featjar.base.data.Result;
 import de.featjar.base.io.IDataTreeFormat;
+import de.featjar.base.io.output.AOutputMapper;
 import de.featjar.base.tree.DataTree;
 import de.featjar.base.tree.Trees;
 import de.featjar.base.tree.structure.ITree;
 import de.featjar.base.tree.visitor.TreePrinter;
+import java.io.IOException;
+import java.io.Writer;
 
 /**
  * An IFormat class that take an AnalysisTree as input and can serialize it into CSV String.
@@ -44,8 +48,25 @@ public class DataTreeTextFormat extends ATextFormat<DataTree<?>> implements IDat
 
     @Override
     public Result<String> serialize(DataTree<?> dataTree) {
-        return Trees.traverse(
-                dataTree, new TreePrinter().setIndentation("| ").setToStringFunction(this::treeNodeToString));
+        return Trees.traverse(dataTree, configure(new TreePrinter()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Streams the tree to the output without building the entire string in memory.
+     */
+    @Override
+    public void write(DataTree<?> dataTree, AOutputMapper outputMapper) throws IOException {
+        Writer writer = outputMapper.get().getWriter();
+        Result<String> result = Trees.traverse(dataTree, configure(new TreePrinter(writer)));
+        writer.flush();
+        if (result.isEmpty()) {
+            throw new IOException(Problem.getFirstException(result.getProblems()).orElse(null));
+        }
+    }
+
+    private TreePrinter configure(TreePrinter treePrinter) {
+        return treePrinter.setIndentation("| ").setToStringFunction(this::treeNodeToString);
     }
 
     private String treeNodeToString(ITree<?> node) {
@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.tree;
+
+import de.featjar.base.tree.structure.ARootedTree;
+import de.featjar.base.tree.structure.ITree;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An index over a tree that numbers all nodes in preorder and stores the depth, parent, and subtree size of each node.
+ * Once built, it answers the following queries in constant time:
+ * the k-th node in preorder, the depth of a node, the size of a subtree,
+ * whether a node is an ancestor of another node, and the preorder range of a subtree.
+ * <p>
+ * The index is a snapshot of the tree at construction time.
+ * It is invalidated by any modification of the children of an indexed node (see {@link #isValid()}).
+ * If all nodes are {@link ARootedTree rooted trees}, modifications are detected with their modification counts.
+ * Each node must occur at most once in the tree, so directed acyclic graphs with shared subtrees are not supported.
+ *
+ * @param <T> the type of tree
+ */
+public class TreeIndex<T extends ITree<T>> {
+
+    private final T root;
+    private final boolean rooted;
+    private int modificationCount;
+    private final List<T> nodes;
+    private final IdentityHashMap<T, Integer> nodeToIndex;
+    private final int[] parents;
+    private final int[] depths;
+    private final int[] subtreeSizes;
+
+    /**
+     * Builds an index for the given tree.
+     * Takes time linear in the number of nodes.
+     *
+     * @param root the root of the tree
+     * @return the index
+     * @param <T> the type of tree
+     * @throws IllegalArgumentException if a node occurs more than once in the tree
+     */
+    public static <T extends ITree<T>> TreeIndex<T> of(T root) {
+        return new TreeIndex<>(root);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TreeIndex(T root) {
+        this.root = Objects.requireNonNull(root);
+        boolean rooted = true;
+
+        Object[] nodeArray = new Object[16];
+        int[] parentArray = new int[16];
+        int[] depthArray = new int[16];
+        nodeToIndex = new IdentityHashMap<>();
+
+        Object[] stack = new Object[16];
+        int[] stackParents = new int[16];
+        int stackSize = 0;
+        stack[stackSize] = root;
+        stackParents[stackSize++] = -1;
+
+        int size = 0;
+        while (stackSize > 0) {
+            final T node = (T) stack[--stackSize];
+            stack[stackSize] = null;
+            final int parent = stackParents[stackSize];
+            if (nodeToIndex.put(node, size) != null) {
+                throw new IllegalArgumentException(String.format("node %s occurs more than once", node));
+            }
+            if (size == nodeArray.length) {
+                final int newLength = size << 1;
+                nodeArray = Arrays.copyOf(nodeArray, newLength);
+                parentArray = Arrays.copyOf(parentArray, newLength);
+                depthArray = Arrays.copyOf(depthArray, newLength);
+            }
+            rooted &= node instanceof ARootedTree;
+            nodeArray[size] = node;
+            parentArray[size] = parent;
+            depthArray[size] = parent < 0 ? 0 : depthArray[parent] + 1;
+
+            final List<? extends T> children = node.getChildren();
+            final int childrenCount = children.size();
+            if (stackSize + childrenCount > stack.length) {
+                final int newLength = Math.max(stackSize + childrenCount, stack.length << 1);
+                stack = Arrays.copyOf(stack, newLength);
+                stackParents = Arrays.copyOf(stackParents, newLength);
+            }
+            for (int i = childrenCount - 1; i >= 0; i--) {
+                stack[stackSize] = children.get(i);
+                stackParents[stackSize++] = size;
+            }
+            size++;
+        }
+
+        this.rooted = rooted;
+        modificationCount = getModificationCount();
+        parents = Arrays.copyOf(parentArray, size);
+        depths = Arrays.copyOf(depthArray, size);
+        subtreeSizes = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            subtreeSizes[i]++;
+            if (parents[i] >= 0) {
+                subtreeSizes[parents[i]] += subtreeSizes[i];
+            }
+        }
+        nodes = Collections.unmodifiableList((List<T>) (List<?>) Arrays.asList(Arrays.copyOf(nodeArray, size)));
+    }
+
+    /**
+     * {@return the root of the indexed tree}
+     */
+    public T getRoot() {
+        return root;
+    }
+
+    /**
+     * {@return whether this index still reflects the indexed tree}
+     * The index is valid if traversing the tree in preorder yields the identical nodes with the identical parents as
+     * at construction time.
+     * If all nodes are {@link ARootedTree rooted trees} and the {@link ARootedTree#getModificationCount() modification
+     * count} of the root is unchanged since the last check, this takes constant time.
+     * Otherwise, this takes linear time.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean isValid() {
+        final int currentModificationCount = getModificationCount();
+        if (rooted && currentModificationCount == modificationCount) {
+            return true;
+        }
+        final int size = nodes.size();
+        Object[] stack = new Object[16];
+        int[] stackParents = new int[16];
+        int stackSize = 0;
+        stack[stackSize] = root;
+        stackParents[stackSize++] = -1;
+        int index = 0;
+        while (stackSize > 0) {
+            final T node = (T) stack[--stackSize];
+            if (index == size || nodes.get(index) != node || parents[index] != stackParents[stackSize]) {
+                return false;
+            }
+            final List<? extends T> children = node.getChildren();
+            final int childrenCount = children.size();
+            if (stackSize + childrenCount > stack.length) {
+                final int newLength = Math.max(stackSize + childrenCount, stack.length << 1);
+                stack = Arrays.copyOf(stack, newLength);
+                stackParents = Arrays.copyOf(stackParents, newLength);
+            }
+            for (int i = childrenCount - 1; i >= 0; i--) {
+                stack[stackSize] = children.get(i);
+                stackParents[stackSize++] = index;
+            }
+            index++;
+        }
+        if (index != size) {
+            return false;
+        }
+        modificationCount = currentModificationCount;
+        return true;
+    }
+
+    private int getModificationCount() {
+        return root instanceof ARootedTree ? ((ARootedTree<?>) root).getModificationCount() : 0;
+    }
+
+    /**
+     * {@return the number of nodes in the indexed tree}
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * {@return all nodes of the indexed tree in preorder}
+     */
+    public List<T> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * {@return the node at the given position in preorder}
+     *
+     * @param index the preorder index
+     * @throws IndexOutOfBoundsException if the given index is out of bounds
+     */
+    public T get(int index) {
+        return nodes.get(index);
+    }
+
+    /**
+     * {@return the preorder index of the given node, or -1 if it is not contained in the indexed tree}
+     *
+     * @param node the node
+     */
+    public int indexOf(T node) {
+        final Integer index = nodeToIndex.get(node);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * {@return whether the given node is contained in the indexed tree}
+     *
+     * @param node the node
+     */
+    public boolean contains(T node) {
+        return nodeToIndex.containsKey(node);
+    }
+
+    /**
+     * {@return the preorder index of the parent of the node at the given preorder index, or -1 for the root}
+     *
+     * @param index the preorder index
+     */
+    public int getParentIndex(int index) {
+        return parents[index];
+    }
+
+    /**
+     * {@return the depth of the node at the given preorder index, where the root has depth 0}
+     *
+     * @param index the preorder index
+     */
+    public int getDepth(int index) {
+        return depths[index];
+    }
+
+    /**
+     * {@return the depth of the given node, where the root has depth 0}
+     *
+     * @param node the node
+     * @throws IllegalArgumentException if the node is not contained in the indexed tree
+     */
+    public int getDepth(T node) {
+        return depths[checkedIndexOf(node)];
+    }
+
+    /**
+     * {@return the number of nodes in the subtree rooted at the node at the given preorder index, including the node}
+     * The subtree occupies the preorder indices from {@code index} (inclusive) to {@code index + getSubtreeSize(index)}
+     * (exclusive).
+     *
+     * @param index the preorder index
+     */
+    public int getSubtreeSize(int index) {
+        return subtreeSizes[index];
+    }
+
+    /**
+     * {@return the number of nodes in the subtree rooted at the given node, including the node}
+     *
+     * @param node the node
+     * @throws IllegalArgumentException if the node is not contained in the indexed tree
+     */
+    public int getSubtreeSize(T node) {
+        return subtreeSizes[checkedIndexOf(node)];
+    }
+
+    /**
+     * {@return all nodes of the subtree rooted at the given node in preorder}
+     * The returned list is a view of {@link #getNodes()}.
+     *
+     * @param node the node
+     * @throws IllegalArgumentException if the node is not contained in the indexed tree
+     */
+    public List<T> getSubtree(T node) {
+        final int index = checkedIndexOf(node);
+        return nodes.subList(index, index + subtreeSizes[index]);
+    }
+
+    /**
+     * {@return whether the node at the first preorder index is a (transitive) ancestor of the node at the second}
+     * A node is not considered an ancestor of itself.
+     *
+     * @param ancestorIndex the preorder index of the potential ancestor
+     * @param index the preorder index of the potential descendant
+     */
+    public boolean isAncestor(int ancestorIndex, int index) {
+        return ancestorIndex < index && index < ancestorIndex + subtreeSizes[ancestorIndex];
+    }
+
+    /**
+     * {@return whether the first node is a (transitive) ancestor of the second node}
+     * A node is not considered an ancestor of itself.
+     * Returns {@code false} if any node is not contained in the indexed tree.
+     *
+     * @param ancestor the potential ancestor
+     * @param node the potential descendant
+     */
+    public boolean isAncestor(T ancestor, T node) {
+        final int ancestorIndex = indexOf(ancestor);
+        final int index = indexOf(node);
+        return ancestorIndex >= 0 && index >= 0 && isAncestor(ancestorIndex, index);
+    }
+
+    private int checkedIndexOf(T node) {
+        final int index = indexOf(node);
+        if (index < 0) {
+            throw new IllegalArgumentException(String.format("node %s is not contained in the index", node));
+        }
+        return index;
+    }
+}
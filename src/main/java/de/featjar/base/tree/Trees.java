@@ -27,8 +27,10 @@ import de.featjar.base.tree.structure.ITree;
 import de.featjar.base.tree.visitor.ITreeVisitor;
 import de.featjar.base.tree.visitor.ITreeVisitor.TraversalAction;
 import de.featjar.base.tree.visitor.TreePrinter;
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -36,6 +38,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -158,6 +161,10 @@ public class Trees {
 
     /**
      * Tests whether two nodes (and their children) are equal.
+     * The trees are traversed iteratively, so arbitrarily deep trees are supported.
+     * Returns early if two corresponding nodes differ in their number of children.
+     * Cached hash codes are not consulted, as they may be stale for trees that do not propagate modifications to
+     * their ancestors.
      *
      * @param node1 the first node
      * @param node2 the second node
@@ -171,24 +178,36 @@ public class Trees {
         if ((node1 == null) || (node2 == null)) {
             return false;
         }
-        final LinkedList<T> stack1 = new LinkedList<>();
-        final LinkedList<T> stack2 = new LinkedList<>();
-        stack1.push(node1);
-        stack2.push(node2);
-        while (!stack1.isEmpty()) {
-            final T currentNode1 = stack1.pop();
-            final T currentNode2 = stack2.pop();
+        // pairs of corresponding nodes are stored next to each other
+        Object[] stack = new Object[32];
+        int size = 0;
+        stack[size++] = node1;
+        stack[size++] = node2;
+        while (size > 0) {
+            @SuppressWarnings("unchecked")
+            final T currentNode2 = (T) stack[--size];
+            @SuppressWarnings("unchecked")
+            final T currentNode1 = (T) stack[--size];
+            stack[size] = null;
+            stack[size + 1] = null;
 
             if (currentNode1 != currentNode2) {
                 if ((currentNode1 == null) || (currentNode2 == null)) {
                     return false;
-                } else {
-                    if (currentNode1.getChildrenCount() != currentNode2.getChildrenCount()
-                            || !currentNode1.equalsNode(currentNode2)) {
-                        return false;
-                    }
-                    stack1.addAll(0, currentNode1.getChildren());
-                    stack2.addAll(0, currentNode2.getChildren());
+                }
+                final List<? extends T> children1 = currentNode1.getChildren();
+                final List<? extends T> children2 = currentNode2.getChildren();
+                final int childrenCount = children1.size();
+                if (childrenCount != children2.size() || !currentNode1.equalsNode(currentNode2)) {
+                    return false;
+                }
+                final int newSize = size + 2 * childrenCount;
+                if (newSize > stack.length) {
+                    stack = Arrays.copyOf(stack, Math.max(newSize, stack.length << 1));
+                }
+                for (int i = childrenCount - 1; i >= 0; i--) {
+                    stack[size++] = children1.get(i);
+                    stack[size++] = children2.get(i);
                 }
             }
         }
@@ -235,13 +254,18 @@ public class Trees {
     }
 
     /**
-     * Sorts a node (and its children).
+     * Minimum number of children of a node for which its children are sorted in parallel.
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    /**
+     * Sorts a node (and its children) according to the string representation of each node.
      *
      * @param root the node
      * @param <T>  the type of tree
      */
     public static <T extends ITree<T>> void sort(T root) {
-        sort(root, Comparator.comparing(T::toString));
+        sortByKey(root, T::toString, Comparator.naturalOrder());
     }
 
     /**
@@ -252,24 +276,88 @@ public class Trees {
      * @param <T>        the type of tree
      */
     public static <T extends ITree<T>> void sort(T root, Comparator<T> comparator) {
-        final LinkedList<StackEntry<T>> stack = new LinkedList<>();
-        stack.push(new StackEntry<>(root));
+        sortByKey(root, Function.identity(), comparator);
+    }
 
-        while (!stack.isEmpty()) {
-            final StackEntry<T> entry = stack.peek();
-            final T node = entry.node;
-            if (entry.remainingChildren == null) {
-                entry.remainingChildren = new LinkedList<>(node.getChildren());
-            }
-            if (!entry.remainingChildren.isEmpty()) {
-                stack.push(new StackEntry<>(entry.remainingChildren.remove(0)));
+    /**
+     * Sorts a node (and its children) according to a sort key that is computed once per node.
+     * This is considerably faster than {@link #sort(ITree, Comparator)} if the comparison of nodes is expensive
+     * (e.g., because it relies on {@link Object#toString()}).
+     * The tree is sorted bottom-up, so the key of a node is computed after its children have been sorted.
+     * The children of a node are only replaced if their order changes.
+     * Nodes with at least {@link #PARALLEL_SORT_THRESHOLD} children are sorted in parallel.
+     *
+     * @param root          the node
+     * @param keyExtractor  computes the sort key of a node
+     * @param keyComparator comparator used for sorting the keys
+     * @param <T>           the type of tree
+     * @param <K>           the type of sort key
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T extends ITree<T>, K> void sortByKey(
+            T root, Function<? super T, ? extends K> keyExtractor, Comparator<? super K> keyComparator) {
+        final Comparator<SortEntry<T, K>> entryComparator = (e1, e2) -> keyComparator.compare(e1.key, e2.key);
+        Object[] nodes = new Object[16];
+        int[] childIndices = new int[16];
+        Object[] keys = new Object[16];
+        SortEntry<T, K>[] entries = new SortEntry[16];
+        int top = 0;
+        int keyCount = 0;
+        nodes[0] = root;
+        while (top >= 0) {
+            final T node = (T) nodes[top];
+            final List<? extends T> children = node.getChildren();
+            final int childIndex = childIndices[top];
+            if (childIndex < children.size()) {
+                childIndices[top] = childIndex + 1;
+                if (++top == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, top << 1);
+                    childIndices = Arrays.copyOf(childIndices, top << 1);
+                }
+                nodes[top] = children.get(childIndex);
+                childIndices[top] = 0;
             } else {
-                if (node.hasChildren()) {
-                    final ArrayList<T> children = new ArrayList<>(node.getChildren());
-                    children.sort(comparator);
-                    node.setChildren(children);
+                final int childrenCount = children.size();
+                if (childrenCount > 1) {
+                    if (childrenCount > entries.length) {
+                        entries = Arrays.copyOf(entries, Math.max(childrenCount, entries.length << 1));
+                    }
+                    final int keyOffset = keyCount - childrenCount;
+                    for (int i = 0; i < childrenCount; i++) {
+                        if (entries[i] == null) {
+                            entries[i] = new SortEntry<>();
+                        }
+                        entries[i].set(children.get(i), (K) keys[keyOffset + i], i);
+                    }
+                    if (childrenCount >= PARALLEL_SORT_THRESHOLD) {
+                        Arrays.parallelSort(entries, 0, childrenCount, entryComparator);
+                    } else {
+                        Arrays.sort(entries, 0, childrenCount, entryComparator);
+                    }
+                    int i = 0;
+                    while (i < childrenCount && entries[i].index == i) {
+                        i++;
+                    }
+                    if (i < childrenCount) {
+                        final ArrayList<T> sortedChildren = new ArrayList<>(childrenCount);
+                        for (int j = 0; j < childrenCount; j++) {
+                            sortedChildren.add(entries[j].node);
+                        }
+                        node.setChildren(sortedChildren);
+                    }
+                    for (int j = 0; j < childrenCount; j++) {
+                        entries[j].set(null, null, -1);
+                    }
+                }
+                Arrays.fill(keys, keyCount - childrenCount, keyCount, null);
+                keyCount -= childrenCount;
+                nodes[top--] = null;
+                if (top >= 0) {
+                    if (keyCount == keys.length) {
+                        keys = Arrays.copyOf(keys, keyCount << 1);
+                    }
+                    keys[keyCount++] = keyExtractor.apply(node);
                 }
-                stack.pop();
             }
         }
     }
@@ -283,6 +371,33 @@ public class Trees {
         return Trees.traverse(root, new TreePrinter()).get();
     }
 
+    /**
+     * Prints the given tree to the given output without building the entire string in memory.
+     * Default print method for trees, see {@link TreePrinter} for more options.
+     *
+     * @param root the tree to print
+     * @param output the output
+     * @throws IOException if an I/O error occurs
+     */
+    public static void print(ITree<?> root, Appendable output) throws IOException {
+        Result<String> result = Trees.traverse(root, new TreePrinter(output));
+        if (result.isEmpty()) {
+            throw new IOException(Problem.getFirstException(result.getProblems()).orElse(null));
+        }
+    }
+
+    private static class SortEntry<T, K> {
+        private T node;
+        private K key;
+        private int index;
+
+        private void set(T node, K key, int index) {
+            this.node = node;
+            this.key = key;
+            this.index = index;
+        }
+    }
+
     private static class StackEntry<T> {
         private final T node;
         private List<T> remainingChildren;
@@ -37,6 +37,8 @@ public abstract class ARootedTree<T extends IRootedTree<T>> extends ATree<T> imp
      */
     protected T parent = null;
 
+    private int modificationCount;
+
     public ARootedTree() {
         super();
     }
@@ -58,6 +60,44 @@ public abstract class ARootedTree<T extends IRootedTree<T>> extends ATree<T> imp
         parent = newParent;
     }
 
+    /**
+     * {@return the number of modifications of the children of this node and its (transitive) children}
+     * The count is incremented whenever the children of this node or of any descendant are modified through the
+     * methods of this class, so it can be compared to a previously obtained count to detect structural modifications
+     * of the subtree rooted at this node.
+     * The count may also change for modifications that do not change the structure of the subtree.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Also invalidates the cached hash codes of all (transitive) parents of this node.
+     * As the hash code of a node is only cached when the hash codes of its children are,
+     * the invalidation stops at the first parent whose hash code is already invalid.
+     * Thus, after a local modification, {@link #hashCodeTree()} of the root only re-hashes the modified path,
+     * which takes time proportional to the depth of the modified node (times the number of children along the path).
+     * In addition, increments the {@link #getModificationCount() modification count} of this node and all its
+     * (transitive) parents, which takes time proportional to the depth of this node.
+     */
+    @Override
+    protected void invalidateHashCodeTree() {
+        super.invalidateHashCodeTree();
+        modificationCount++;
+        boolean invalidate = true;
+        Object currentParent = parent;
+        while (currentParent instanceof ARootedTree) {
+            final ARootedTree<?> currentTree = (ARootedTree<?>) currentParent;
+            currentTree.modificationCount++;
+            if (invalidate) {
+                invalidate = currentTree.hashCodeValid;
+                currentTree.hashCodeValid = false;
+            }
+            currentParent = currentTree.parent;
+        }
+    }
+
     /**
      * {@inheritDoc}
      * The old children are changed to have no parent node.
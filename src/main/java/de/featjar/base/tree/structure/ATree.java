@@ -64,7 +64,7 @@ public abstract class ATree<T extends ITree<T>> implements ITree<T> {
         Objects.requireNonNull(children);
         assertChildrenCountInRange(children.size());
         assertChildValidator(children);
-        hashCodeValid = false;
+        invalidateHashCodeTree();
         this.children.clear();
         this.children.addAll(children);
     }
@@ -80,7 +80,7 @@ public abstract class ATree<T extends ITree<T>> implements ITree<T> {
     public void addChild(int index, T newChild) {
         assertChildrenCountInRange(children.size() + 1);
         assertChildValidator(newChild);
-        hashCodeValid = false;
+        invalidateHashCodeTree();
         if (index > getChildrenCount()) {
             children.add(newChild);
         } else {
@@ -97,7 +97,7 @@ public abstract class ATree<T extends ITree<T>> implements ITree<T> {
     public void addChild(T newChild) {
         assertChildrenCountInRange(children.size() + 1);
         assertChildValidator(newChild);
-        hashCodeValid = false;
+        invalidateHashCodeTree();
         children.add(newChild);
     }
 
@@ -110,7 +110,7 @@ public abstract class ATree<T extends ITree<T>> implements ITree<T> {
     @Override
     public void removeChild(T child) {
         assertChildrenCountInRange(children.size() - 1);
-        hashCodeValid = false;
+        invalidateHashCodeTree();
         if (!children.remove(child)) {
             throw new NoSuchElementException();
         }
@@ -126,7 +126,7 @@ public abstract class ATree<T extends ITree<T>> implements ITree<T> {
     @Override
     public T removeChild(int index) {
         assertChildrenCountInRange(children.size() - 1);
-        hashCodeValid = false;
+        invalidateHashCodeTree();
         return children.remove(index);
     }
 
@@ -144,7 +144,7 @@ public abstract class ATree<T extends ITree<T>> implements ITree<T> {
             final T replacement = mapper.apply(idx, child);
             if (replacement != null && replacement != child) {
                 assertChildValidator(replacement);
-                hashCodeValid = false;
+                invalidateHashCodeTree();
                 it.set(replacement);
                 modified = true;
             }
@@ -166,7 +166,7 @@ public abstract class ATree<T extends ITree<T>> implements ITree<T> {
         if (index == -1) throw new NoSuchElementException();
         assertChildValidator(newChild);
         if (oldChild != newChild) {
-            hashCodeValid = false;
+            invalidateHashCodeTree();
             children.set(index, newChild);
         }
         return oldChild != newChild;
@@ -185,7 +185,7 @@ public abstract class ATree<T extends ITree<T>> implements ITree<T> {
         if (idx < 0 || idx > getChildrenCount()) throw new NoSuchElementException();
         assertChildValidator(newChild);
         if (children.get(idx) != newChild) {
-            hashCodeValid = false;
+            invalidateHashCodeTree();
             children.set(idx, newChild);
         }
         return children.get(idx) != newChild;
@@ -202,12 +202,27 @@ public abstract class ATree<T extends ITree<T>> implements ITree<T> {
         return this == other || (other != null && getClass() == other.getClass() && equalsTree((T) other));
     }
 
+    /**
+     * Invalidates the cached hash code of this node.
+     * Called whenever the children of this node are modified.
+     */
+    protected void invalidateHashCodeTree() {
+        hashCodeValid = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The hash code is cached until the children of this node are modified.
+     */
     @Override
     public int hashCodeTree() {
         if (hashCodeValid) return hashCode;
-        hashCode = ITree.super.hashCodeTree();
-        hashCodeValid = true;
-        return hashCode;
+        return ITree.super.hashCodeTree();
+    }
+
+    @Override
+    public boolean isHashCodeTreeCached() {
+        return hashCodeValid;
     }
 
     /**
@@ -31,6 +31,7 @@ import de.featjar.base.tree.visitor.TreePrinter;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -397,13 +398,80 @@ public interface ITree<T extends ITree<T>> extends IBrowsable<GraphVizTreeFormat
     /**
      * {@return the hash code of this node (and its children)}
      * Relies on {@link #hashCodeNode()}.
+     * The tree is traversed iteratively, so arbitrarily deep trees are supported.
+     * Descendants that are instances of {@link ATree} contribute their cached hash code, if valid,
+     * and otherwise have their hash code cached during the traversal.
+     * Other descendants are traversed as well, unless they {@link #isHashCodeTreeCached() cache} their hash code.
      */
     default int hashCodeTree() {
-        int hashCode = hashCodeNode();
-        for (T child : getChildren()) {
-            hashCode += (hashCode * 37) + child.hashCodeTree();
+        return computeHashCodeTree(this);
+    }
+
+    /**
+     * {@return whether the hash code of this node (and its children) is cached}
+     * If so, {@link #hashCodeTree()} returns in constant time.
+     */
+    default boolean isHashCodeTreeCached() {
+        return false;
+    }
+
+    private static int computeHashCodeTree(ITree<?> root) {
+        if (!root.hasChildren()) {
+            final int hashCode = root.hashCodeNode();
+            if (root instanceof ATree) {
+                final ATree<?> tree = (ATree<?>) root;
+                tree.hashCode = hashCode;
+                tree.hashCodeValid = true;
+            }
+            return hashCode;
+        }
+        ITree<?>[] nodes = new ITree<?>[16];
+        int[] hashCodes = new int[16];
+        int[] childIndices = new int[16];
+        int top = 0;
+        nodes[0] = root;
+        hashCodes[0] = root.hashCodeNode();
+        while (true) {
+            final ITree<?> node = nodes[top];
+            final List<? extends ITree<?>> children = node.getChildren();
+            final int childIndex = childIndices[top];
+            if (childIndex < children.size()) {
+                childIndices[top] = childIndex + 1;
+                final ITree<?> child = children.get(childIndex);
+                if (child instanceof ATree) {
+                    final ATree<?> tree = (ATree<?>) child;
+                    if (tree.hashCodeValid) {
+                        hashCodes[top] += (hashCodes[top] * 37) + tree.hashCode;
+                        continue;
+                    }
+                } else if (child.isHashCodeTreeCached()) {
+                    hashCodes[top] += (hashCodes[top] * 37) + child.hashCodeTree();
+                    continue;
+                }
+                if (++top == nodes.length) {
+                    final int newLength = nodes.length << 1;
+                    nodes = Arrays.copyOf(nodes, newLength);
+                    hashCodes = Arrays.copyOf(hashCodes, newLength);
+                    childIndices = Arrays.copyOf(childIndices, newLength);
+                }
+                nodes[top] = child;
+                hashCodes[top] = child.hashCodeNode();
+                childIndices[top] = 0;
+            } else {
+                final int hashCode = hashCodes[top];
+                if (node instanceof ATree) {
+                    final ATree<?> tree = (ATree<?>) node;
+                    tree.hashCode = hashCode;
+                    tree.hashCodeValid = true;
+                }
+                nodes[top] = null;
+                if (top == 0) {
+                    return hashCode;
+                }
+                top--;
+                hashCodes[top] += (hashCodes[top] * 37) + hashCode;
+            }
         }
-        return hashCode;
     }
 
     /**
@@ -505,6 +573,18 @@ public interface ITree<T extends ITree<T>> extends IBrowsable<GraphVizTreeFormat
         Trees.sort((T) this, comparator);
     }
 
+    /**
+     * Sorts this node (and its children) according to a sort key that is computed once per node.
+     *
+     * @param keyExtractor  computes the sort key of a node
+     * @param keyComparator comparator used for sorting the keys
+     * @param <K>           the type of sort key
+     * @see Trees#sortByKey(ITree, Function, Comparator)
+     */
+    default <K> void sortByKey(Function<? super T, ? extends K> keyExtractor, Comparator<? super K> keyComparator) {
+        Trees.sortByKey((T) this, keyExtractor, keyComparator);
+    }
+
     @Override
     default Result<URI> getBrowseURI(GraphVizTreeFormat<T> argument) {
         return argument.serialize((T) this).mapResult(ITree::buildURI);
@@ -22,6 +22,7 @@ package de.featjar.base.tree.visitor;
 
 import de.featjar.base.data.Result;
 import de.featjar.base.tree.structure.ITree;
+import java.io.IOException;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -30,15 +31,39 @@ import java.util.function.Predicate;
  * Prints a tree as a string.
  * Useful for debugging.
  * Implemented as a preorder traversal.
+ * Can also stream the printed tree to an {@link Appendable} (e.g., a {@link java.io.Writer}),
+ * so large trees can be printed without materializing the entire string in memory.
  *
  * @author Sebastian Krieter
  */
 public class TreePrinter implements ITreeVisitor<ITree<?>, String> {
-    private final StringBuilder treeStringBuilder = new StringBuilder();
+    private final StringBuilder treeStringBuilder;
+    private final Appendable output;
+    private IOException exception;
     private String indentation = "  ";
     private Predicate<ITree<?>> filter = null;
     private Function<ITree<?>, String> toStringFunction = Object::toString;
 
+    /**
+     * Creates a tree printer that prints into a string.
+     */
+    public TreePrinter() {
+        treeStringBuilder = new StringBuilder();
+        output = treeStringBuilder;
+    }
+
+    /**
+     * Creates a tree printer that streams into the given output.
+     * In this case, {@link #getResult()} returns an empty string after a successful traversal,
+     * and the output is neither flushed nor closed.
+     *
+     * @param output the output
+     */
+    public TreePrinter(Appendable output) {
+        treeStringBuilder = null;
+        this.output = output;
+    }
+
     public String getIndentation() {
         return indentation;
     }
@@ -68,12 +93,18 @@ public class TreePrinter implements ITreeVisitor<ITree<?>, String> {
 
     @Override
     public void reset() {
-        treeStringBuilder.delete(0, treeStringBuilder.length());
+        if (treeStringBuilder != null) {
+            treeStringBuilder.delete(0, treeStringBuilder.length());
+        }
+        exception = null;
     }
 
     @Override
     public Result<String> getResult() {
-        return Result.of(treeStringBuilder.toString());
+        if (exception != null) {
+            return Result.empty(exception);
+        }
+        return Result.of(treeStringBuilder != null ? treeStringBuilder.toString() : "");
     }
 
     @Override
@@ -81,9 +112,14 @@ public class TreePrinter implements ITreeVisitor<ITree<?>, String> {
         final ITree<?> currentNode = ITreeVisitor.getCurrentNode(path);
         if ((filter == null) || filter.test(currentNode)) {
             try {
-                treeStringBuilder.append(String.valueOf(indentation).repeat(Math.max(0, path.size() - 1)));
-                treeStringBuilder.append(toStringFunction.apply(currentNode));
-                treeStringBuilder.append('\n');
+                for (int i = path.size() - 1; i > 0; i--) {
+                    output.append(indentation);
+                }
+                output.append(toStringFunction.apply(currentNode));
+                output.append('\n');
+            } catch (final IOException e) {
+                exception = e;
+                return TraversalAction.SKIP_ALL;
             } catch (final Exception e) {
                 return TraversalAction.SKIP_ALL;
             }
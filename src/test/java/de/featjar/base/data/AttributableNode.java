@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import de.featjar.base.data.identifier.IIdentifiable;
+import de.featjar.base.data.identifier.IIdentifier;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A mutable, identifiable object whose attribute values are held in an {@link AttributeStore}, for use in tests.
+ */
+class AttributableNode implements IAttributable.IMutatableAttributable, IIdentifiable {
+    final AttributeStore attributes = new AttributeStore();
+    private final IIdentifier identifier;
+
+    AttributableNode() {
+        this(null);
+    }
+
+    AttributableNode(IIdentifier identifier) {
+        this.identifier = identifier;
+    }
+
+    @Override
+    public IIdentifier getIdentifier() {
+        return identifier;
+    }
+
+    @Override
+    public Optional<Map<IAttribute<?>, Object>> getAttributes() {
+        return Optional.of(attributes);
+    }
+
+    @Override
+    public <S> void setAttributeValue(Attribute<S> attribute, S value) {
+        checkType(attribute, value);
+        attributes.put(attribute, value);
+    }
+
+    @Override
+    public <S> S removeAttributeValue(Attribute<S> attribute) {
+        return attribute.getClassType().cast(attributes.remove(attribute));
+    }
+}
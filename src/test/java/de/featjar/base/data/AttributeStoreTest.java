@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class AttributeStoreTest {
+
+    @Test
+    void slots() {
+        Attribute<Integer> weight = Attributes.get("test.store", "weight", Integer.class);
+        Attribute<String> label = Attributes.get("test.store", "label", String.class);
+        Attribute<Boolean> flag = Attributes.get("test.store", "flag", Boolean.class);
+        assertTrue(weight.getIndex() >= 0);
+        assertTrue(weight.getIndex() < label.getIndex());
+        assertEquals(label, Attributes.getAttribute(label.getIndex()));
+        assertEquals(weight.getIndex(), Attributes.getIndex(new Attribute<>(weight.getName(), Integer.class)));
+
+        AttributeStore store = new AttributeStore();
+        assertNull(store.put(flag, true));
+        assertNull(store.put(weight, 3));
+        assertNull(store.put(label, "a"));
+        assertEquals(3, store.put(weight, 4));
+        assertEquals(3, store.size());
+        assertEquals(4, store.getValue(weight));
+        assertEquals("a", store.get(label));
+        assertEquals(List.of(weight, label, flag), new ArrayList<>(store.keySet()));
+        assertThrows(NullPointerException.class, () -> store.put(weight, null));
+
+        Map<IAttribute<?>, Object> map = new LinkedHashMap<>(store);
+        assertEquals(map, store);
+        assertEquals(map.hashCode(), store.hashCode());
+
+        Iterator<IAttribute<?>> iterator = store.keySet().iterator();
+        iterator.next();
+        iterator.remove();
+        assertFalse(store.containsKey(weight));
+        assertEquals(List.of(label, flag), new ArrayList<>(store.keySet()));
+        assertEquals("a", store.remove(label));
+        assertNull(store.remove(label));
+        store.trimToSize();
+        assertEquals(Map.of(flag, true), store);
+        store.clear();
+        assertTrue(store.isEmpty());
+    }
+
+    @Test
+    void clearedAttributes() {
+        Attribute<Integer> weight = Attributes.get("test.store.cleared", "weight", Integer.class);
+        Attribute<String> label = Attributes.get("test.store.cleared", "label", String.class);
+        AttributeStore store = new AttributeStore();
+        store.put(weight, 1);
+        Attributes.clearAllAttributes();
+        assertFalse(Attributes.getAllAttributes("test.store.cleared").contains(weight));
+        store.put(label, "a");
+
+        Attribute<Integer> registeredWeight = Attributes.get("test.store.cleared", "weight", Integer.class);
+        Attribute<String> registeredLabel = Attributes.get("test.store.cleared", "label", String.class);
+        assertEquals(weight, registeredWeight);
+        assertEquals(Attributes.getIndex(weight), Attributes.getIndex(registeredWeight));
+        assertEquals(1, store.get(registeredWeight));
+        assertEquals("a", store.get(registeredLabel));
+        store.put(registeredWeight, 2);
+        assertEquals(2, store.get(weight));
+        assertEquals(2, store.size());
+        assertEquals(Map.of(weight, 2, label, "a"), store);
+        assertTrue(Attributes.getAllAttributes("test.store.cleared").contains(weight));
+    }
+
+    @Test
+    void attributable() {
+        Attribute<Integer> weight = Attributes.get("test.store", "weight", Integer.class);
+        Attribute<StringBuilder> buffer = Attributes.get("test.store", "buffer", StringBuilder.class);
+        buffer.setCopyValueFunction(value -> new StringBuilder(value));
+        weight.setDefaultValue(1);
+        AttributableNode node = new AttributableNode();
+        assertEquals(1, node.getAttributeValue(weight).get());
+        node.mutate().setAttributeValue(weight, 5);
+        node.mutate().setAttributeValue(buffer, new StringBuilder("x"));
+        assertEquals(5, node.getAttributeValue(weight).get());
+        assertTrue(node.hasAttributeValue(buffer));
+
+        AttributeStore copy = node.cloneAttributeStore();
+        assertEquals(5, copy.getValue(weight));
+        assertEquals("x", copy.getValue(buffer).toString());
+        assertNotSame(node.getAttributeValue(buffer).get(), copy.getValue(buffer));
+        assertEquals(copy.keySet(), node.cloneAttributes().keySet());
+
+        assertEquals(5, node.mutate().removeAttributeValue(weight));
+        assertEquals(1, node.getAttributeValue(weight).get());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.base.data.identifier.CounterIdentifier;
+import de.featjar.base.io.csv.CSVFile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class AttributeTableTest {
+
+    private static final Attribute<Integer> WEIGHT = Attributes.get("test.table", "weight", Integer.class);
+    private static final Attribute<Long> SIZE = Attributes.get("test.table", "size", Long.class);
+    private static final Attribute<Double> SCORE = Attributes.get("test.table", "score", Double.class);
+    private static final Attribute<Boolean> ABSTRACT = Attributes.get("test.table", "abstract", Boolean.class);
+    private static final Attribute<String> LABEL = Attributes.get("test.table", "label", String.class);
+
+    private static List<AttributableNode> createNodes() {
+        CounterIdentifier.Factory factory = new CounterIdentifier.Factory();
+        List<AttributableNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            AttributableNode node = new AttributableNode(factory.get());
+            node.attributes.put(WEIGHT, i % 10);
+            node.attributes.put(SIZE, (long) i * 1000000000L);
+            if (i % 2 == 0) {
+                node.attributes.put(SCORE, i / 2.0);
+            }
+            node.attributes.put(ABSTRACT, i % 3 == 0);
+            node.attributes.put(LABEL, "n" + i);
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    @Test
+    void scansAndAggregates() {
+        List<AttributableNode> nodes = createNodes();
+        AttributeTable table = new AttributeTable(WEIGHT, SIZE, SCORE, ABSTRACT).addAll(nodes);
+        assertEquals(3000, table.getRowCount());
+        assertEquals(List.of(WEIGHT, SIZE, SCORE, ABSTRACT), table.getColumns());
+        int row = table.getRow(nodes.get(7).getIdentifier());
+        assertEquals(7, row);
+        assertEquals(nodes.get(7).getIdentifier(), table.getIdentifier(row));
+        assertEquals(-1, table.getRow(new CounterIdentifier.Factory().parse("-5")));
+
+        assertEquals(7, table.getInt(row, WEIGHT, -1));
+        assertEquals(7000000000L, table.getLong(row, SIZE, -1));
+        assertFalse(table.hasValue(row, SCORE));
+        assertEquals(-1.0, table.getDouble(row, SCORE, -1.0));
+        assertTrue(table.get(row, SCORE).isEmpty());
+        assertEquals(1.0, table.get(2, SCORE).get());
+        assertThrows(IllegalArgumentException.class, () -> table.get(0, LABEL));
+
+        IntSummaryStatistics weights = table.summarizeInt(WEIGHT);
+        assertEquals(3000, weights.getCount());
+        assertEquals(4.5, weights.getAverage());
+        assertEquals(9, weights.getMax());
+        assertEquals(1500, table.count(SCORE));
+        assertEquals(1000, table.countTrue(ABSTRACT));
+        assertEquals(
+                nodes.stream().mapToLong(n -> n.getAttributeValue(SIZE).get()).sum(),
+                table.summarizeLong(SIZE).getSum());
+        assertEquals(table.summarizeDouble(SCORE).getSum(), table.doubleValues(SCORE).sum());
+        assertEquals(weights.getSum(), table.summarizeDouble(WEIGHT).getSum());
+        assertEquals(300, table.selectRows(WEIGHT, w -> w == 3).length);
+        assertArrayEquals(new int[] {0, 2}, table.selectDoubleRows(SCORE, s -> s < 2));
+        assertArrayEquals(new int[] {0, 1}, table.selectLongRows(SIZE, s -> s < 2000000000L));
+        assertEquals(table.intValues(WEIGHT).sum(), weights.getSum());
+        assertEquals(1500, table.rows(SCORE).count());
+
+        table.setInt(0, WEIGHT, 100);
+        table.set(1, SCORE, 0.5);
+        table.setBoolean(0, ABSTRACT, false);
+        table.set(3, ABSTRACT, null);
+        assertEquals(100, table.summarizeInt(WEIGHT).getMax());
+        assertEquals(1501, table.count(SCORE));
+        assertEquals(998, table.countTrue(ABSTRACT));
+    }
+
+    @Test
+    void writeCSV() throws IOException {
+        List<AttributableNode> nodes = createNodes().subList(0, 5);
+        AttributeTable table = new AttributeTable(WEIGHT, SCORE, LABEL).addAll(nodes);
+        Path path = Files.createTempFile("table", ".csv");
+        try {
+            table.writeCSV(new CSVFile(path));
+            List<String> lines = Files.readAllLines(path);
+            assertEquals(6, lines.size());
+            assertEquals("identifier,test.table:weight,test.table:score,test.table:label", lines.get(0));
+            assertEquals("1,0,0,n0", lines.get(1));
+            assertEquals("2,1,,n1", lines.get(2));
+            assertEquals(
+                    List.of("5", "4", "2", "n4"),
+                    CSVFile.readAllLines(path).skip(5).findFirst().get().stream()
+                            .collect(Collectors.toList()));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class AttributesTest {
+
+    private static final String NAMESPACE = AttributesTest.class.getName();
+
+    @Test
+    void internNames() {
+        Name name = Name.of(NAMESPACE, "name");
+        assertSame(name, Name.of(NAMESPACE, "name"));
+        assertSame(name, new Name(NAMESPACE, "name").intern());
+        assertNotSame(name, new Name(NAMESPACE, "name"));
+        assertEquals(name, new Name(NAMESPACE, "name"));
+        assertEquals(name.hashCode(), new Name(NAMESPACE, "name").hashCode());
+        assertSame(Name.of("name"), Name.of(Name.DEFAULT_NAMESPACE, "name"));
+    }
+
+    @Test
+    void getCanonicalAttributes() {
+        Attribute<Integer> attribute = Attributes.get(NAMESPACE, "count", Integer.class);
+        assertSame(attribute, Attributes.get(NAMESPACE, "count", Integer.class));
+        assertSame(attribute, Attributes.get(Name.of(NAMESPACE, "count"), Integer.class));
+        assertSame(Name.of(NAMESPACE, "count"), attribute.getName());
+        assertSame(attribute, Attributes.getAttribute(attribute.getIndex()));
+        assertTrue(Attributes.getAllAttributes(NAMESPACE).contains(attribute));
+        assertThrows(IllegalArgumentException.class, () -> Attributes.get(NAMESPACE, "count", String.class));
+    }
+
+    @Test
+    void getAttributesConcurrently() {
+        List<Attribute<?>> attributes = IntStream.range(0, 10000)
+                .parallel()
+                .mapToObj(i -> Attributes.get(NAMESPACE, "concurrent" + (i % 100), Long.class))
+                .collect(Collectors.toList());
+        for (Attribute<?> attribute : attributes) {
+            assertSame(attribute, Attributes.get(NAMESPACE, attribute.getSimpleName(), Long.class));
+            assertSame(attribute, Attributes.getAttribute(attribute.getIndex()));
+        }
+        assertEquals(
+                100,
+                Attributes.getAllAttributes(NAMESPACE).stream()
+                        .filter(a -> a.getSimpleName().startsWith("concurrent"))
+                        .count());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+
+public class BinomialCalculatorTest {
+
+    @Test
+    void binomial() {
+        BinomialCalculator calculator = new BinomialCalculator(6, 200);
+        for (int n = 0; n <= 200; n++) {
+            for (int k = 0; k <= 6; k++) {
+                assertEquals(BinomialCalculator.computeBinomial(n, k), calculator.binomial(n, k));
+                assertEquals(BinomialCalculator.computeBigBinomial(n, k), calculator.bigBinomial(n, k));
+            }
+        }
+        assertEquals(BinomialCalculator.computeBinomial(300, 7), calculator.binomial(300, 7));
+        assertEquals(720, calculator.factorial(6));
+        assertEquals(BinomialCalculator.computeFactorial(20), calculator.factorial(20));
+        assertThrows(ArithmeticException.class, () -> calculator.factorial(21));
+    }
+
+    @Test
+    void overflow() {
+        BinomialCalculator calculator = new BinomialCalculator(40, 100);
+        assertEquals(BinomialCalculator.computeBigBinomial(66, 33).longValueExact(), calculator.binomial(66, 33));
+        assertThrows(ArithmeticException.class, () -> calculator.binomial(100, 40));
+        assertEquals(BinomialCalculator.computeBigBinomial(100, 40), calculator.bigBinomial());
+        assertTrue(calculator.bigBinomial().bitLength() > 63);
+        assertEquals(new BigInteger("13746234145802811501267369720"), calculator.bigBinomial());
+    }
+
+    @Test
+    void saturatedIndex() {
+        BinomialCalculator calculator = new BinomialCalculator(20, 200);
+        BigInteger index = BigInteger.valueOf(Long.MAX_VALUE);
+        int[] combination = calculator.combination(Long.MAX_VALUE, new int[20]);
+        assertEquals(index, calculator.bigIndex(combination));
+        assertEquals(Long.MAX_VALUE, calculator.index(combination));
+        assertArrayEquals(combination, calculator.combination(index, new int[20], 0));
+        int[] last = calculator.combination(calculator.bigBinomial().subtract(BigInteger.ONE), new int[20], 0);
+        assertEquals(199, last[19]);
+        assertThrows(ArithmeticException.class, () -> calculator.index(last));
+        int[] next = calculator.combination(index.add(BigInteger.ONE), new int[20], 0);
+        assertThrows(ArithmeticException.class, () -> calculator.index(next));
+    }
+
+    @Test
+    void combination() {
+        for (int k = 1; k <= 4; k++) {
+            BinomialCalculator calculator = new BinomialCalculator(k, 12);
+            int[] expected = new int[k];
+            for (int i = 0; i < k; i++) {
+                expected[i] = i;
+            }
+            long size = calculator.binomial();
+            for (long index = 0; index < size; index++) {
+                int[] combination = calculator.combination(index, new int[k + 2], 1);
+                int[] actual = new int[k];
+                System.arraycopy(combination, 1, actual, 0, k);
+                assertArrayEquals(expected, actual);
+                assertEquals(index, calculator.index(actual));
+                nextCombination(expected, 12);
+            }
+        }
+        BinomialCalculator calculator = new BinomialCalculator(3, 100000);
+        long index = calculator.binomial() - 1;
+        assertArrayEquals(new int[] {99997, 99998, 99999}, calculator.combination(index, new int[3]));
+        assertArrayEquals(new int[] {0, 1, 99999}, calculator.combination(calculator.binomial(99999, 3), new int[3]));
+    }
+
+    private static void nextCombination(int[] combination, int n) {
+        for (int i = 0; i < combination.length; i++) {
+            if (i == combination.length - 1 ? combination[i] + 1 < n : combination[i] + 1 < combination[i + 1]) {
+                combination[i]++;
+                for (int j = 0; j < i; j++) {
+                    combination[j] = j;
+                }
+                return;
+            }
+        }
+    }
+}
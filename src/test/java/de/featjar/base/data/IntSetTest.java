@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class IntSetTest {
+
+    @Test
+    void randomOperations() {
+        Random random = new Random(9);
+        IntSet set = IntSet.of(0, 1, 1);
+        assertEquals(2, set.size());
+        HashSet<Integer> expected = new HashSet<>(Arrays.asList(0, 1));
+        for (int i = 0; i < 100000; i++) {
+            int integer = random.nextInt(2000) - 1000;
+            if (random.nextBoolean()) {
+                assertEquals(expected.remove(integer), set.remove(integer));
+            } else {
+                assertEquals(expected.add(integer), set.add(integer));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        for (int integer = -1000; integer < 1000; integer++) {
+            assertEquals(expected.contains(integer), set.contains(integer));
+        }
+        int[] integers = set.toArray();
+        Arrays.sort(integers);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), integers);
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+    }
+}
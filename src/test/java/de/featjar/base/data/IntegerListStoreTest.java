@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class IntegerListStoreTest {
+
+    private static List<int[]> randomLists(int count) {
+        Random random = new Random(7);
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lists.add(random.ints(random.nextInt(20), -50, 50).toArray());
+        }
+        return lists;
+    }
+
+    private static void assertStoreEquals(List<int[]> expected, IntegerListStore store) {
+        assertEquals(expected.size(), store.size());
+        int i = 0;
+        for (IntegerListStore.View view : store) {
+            assertEquals(i, view.getIndex());
+            assertArrayEquals(expected.get(i), view.copyInts());
+            assertArrayEquals(expected.get(i), view.stream().toArray());
+            assertEquals(new IntegerList(expected.get(i)), store.getIntegerList(i));
+            assertEquals(expected.get(i).length, store.size(i));
+            i++;
+        }
+        assertEquals(expected.size(), i);
+    }
+
+    @Test
+    void addAndGet() {
+        IntegerListStore store = new IntegerListStore(1, 1);
+        assertTrue(store.isEmpty());
+        assertEquals(0, store.add(1, -2, 3));
+        assertEquals(1, store.add());
+        assertEquals(2, store.add(new IntegerList(4, 5)));
+        assertEquals(3, store.add(new int[] {6, 7, 8, 9}, 1, 3));
+        assertEquals(4, store.size());
+        assertEquals(7, store.getIntegerCount());
+        assertEquals(-2, store.get(0, 1));
+        assertEquals(8, store.get(3, 1));
+        assertTrue(store.view(1).isEmpty());
+        assertTrue(store.view(2).contains(5));
+        assertFalse(store.view(2).contains(1));
+        assertEquals(1, store.view(0).indexOf(-2));
+        assertEquals("[7, 8]", store.view(3).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.view(4));
+
+        List<int[]> lists = randomLists(1000);
+        IntegerListStore largeStore = new IntegerListStore();
+        lists.forEach(largeStore::add);
+        assertStoreEquals(lists, largeStore);
+    }
+
+    @Test
+    void writeAndMap() throws IOException {
+        List<int[]> lists = randomLists(20000);
+        IntegerListStore store = new IntegerListStore();
+        lists.forEach(store::add);
+        Path path = Files.createTempFile("store", ".bin");
+        try {
+            store.write(path);
+            IntegerListStore mappedStore = IntegerListStore.map(path);
+            assertTrue(mappedStore.isReadOnly());
+            assertEquals(store.getIntegerCount(), mappedStore.getIntegerCount());
+            assertStoreEquals(lists, mappedStore);
+            assertThrows(UnsupportedOperationException.class, () -> mappedStore.add(1));
+
+            new IntegerListStore().write(path);
+            assertTrue(IntegerListStore.map(path).isEmpty());
+
+            Files.write(path, new byte[] {0, 0, 0, 5});
+            assertThrows(IOException.class, () -> IntegerListStore.map(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
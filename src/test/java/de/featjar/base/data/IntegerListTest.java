@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class IntegerListTest {
+
+    @Test
+    void setOperations() {
+        Random random = new Random(1);
+        for (int size : new int[] {0, 1, 5, 20, 100, 1000}) {
+            for (int spread : new int[] {10, 1000, Integer.MAX_VALUE}) {
+                IntegerList list = new IntegerList(randomInts(random, size, spread));
+                int[] integers = randomInts(random, size, spread);
+                int[] elements = list.get();
+
+                assertArrayEquals(
+                        IntStream.concat(
+                                        Arrays.stream(elements).filter(e -> !contains(integers, e)),
+                                        Arrays.stream(integers))
+                                .toArray(),
+                        list.addAllInts(integers));
+                assertArrayEquals(
+                        Arrays.stream(elements)
+                                .filter(e -> contains(integers, e))
+                                .toArray(),
+                        list.retainAllInts(integers));
+                assertArrayEquals(
+                        Arrays.stream(elements)
+                                .filter(e -> !contains(integers, e))
+                                .toArray(),
+                        list.removeAllInts(integers));
+
+                assertEquals(
+                        Arrays.stream(integers).anyMatch(i -> contains(elements, i)), list.containsAny(integers));
+                assertEquals(
+                        Arrays.stream(integers).anyMatch(i -> contains(elements, -i)),
+                        list.containsAnyNegated(integers));
+                assertEquals(
+                        Arrays.stream(integers).allMatch(i -> contains(elements, i)), list.containsAll(integers));
+                assertEquals(
+                        Arrays.stream(integers).allMatch(i -> contains(elements, -i)),
+                        list.containsAllNegated(integers));
+                assertEquals(
+                        Arrays.stream(integers).noneMatch(i -> contains(elements, i)), list.containsNone(integers));
+                assertEquals(
+                        Arrays.stream(integers).filter(i -> contains(elements, i)).count(),
+                        list.sizeOfIntersection(integers));
+                assertEquals(
+                        Arrays.stream(integers).filter(i -> !contains(elements, i)).count(),
+                        list.sizeOfDisjoint(integers));
+                assertEquals(true, list.containsAll(elements));
+            }
+        }
+    }
+
+    @Test
+    void elementWiseOperations() {
+        Random random = new Random(2);
+        for (int size : new int[] {0, 1, 7, 64, 1001}) {
+            int[] elements = randomInts(random, size, 50);
+            IntegerList list = new IntegerList(elements);
+            assertArrayEquals(Arrays.stream(elements).map(i -> -i).toArray(), list.negateInts());
+            assertArrayEquals(Arrays.stream(elements).map(Math::abs).toArray(), list.getAbsoluteValuesInts());
+            assertArrayEquals(Arrays.stream(elements).filter(i -> i > 0).toArray(), list.getPositiveValuesInts());
+            assertArrayEquals(Arrays.stream(elements).filter(i -> i < 0).toArray(), list.getNegativeValuesInts());
+            assertArrayEquals(Arrays.stream(elements).filter(i -> i != 0).toArray(), list.getNonZeroValuesInts());
+            assertEquals(Arrays.stream(elements).filter(i -> i > 0).count(), list.countPositives());
+            assertEquals(Arrays.stream(elements).filter(i -> i < 0).count(), list.countNegatives());
+            assertEquals(Arrays.stream(elements).filter(i -> i != 0).count(), list.countNonZero());
+            for (int integer = -50; integer <= 50; integer++) {
+                final int element = integer;
+                int[] indices = IntStream.range(0, size)
+                        .filter(i -> elements[i] == element)
+                        .toArray();
+                assertArrayEquals(indices, list.indicesOf(integer));
+                assertEquals(indices.length == 0 ? -1 : indices[0], list.indexOf(integer));
+            }
+        }
+    }
+
+    private static int[] randomInts(Random random, int size, int spread) {
+        return IntStream.range(0, size)
+                .map(i -> spread == Integer.MAX_VALUE ? random.nextInt() : random.nextInt(2 * spread) - spread)
+                .toArray();
+    }
+
+    private static boolean contains(int[] array, int integer) {
+        return Arrays.stream(array).anyMatch(e -> e == integer);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LiteralSetTest {
+
+    @Test
+    void membership() {
+        LiteralSet set = LiteralSet.of(new IntegerList(3, -1, 5, -1));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(-1));
+        assertFalse(set.contains(1));
+        assertTrue(set.containsNegated(1));
+        assertTrue(set.containsVariable(1));
+        assertFalse(set.containsVariable(2));
+        assertFalse(set.contains(0));
+        assertFalse(set.hasConflicts());
+        assertTrue(set.add(1));
+        assertFalse(set.add(1));
+        assertTrue(set.hasConflicts());
+        assertTrue(set.remove(1));
+        assertFalse(set.remove(1));
+        assertThrows(IllegalArgumentException.class, () -> set.add(0));
+        assertThrows(IllegalArgumentException.class, () -> set.add(Integer.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> set.remove(Integer.MIN_VALUE));
+        assertFalse(set.contains(Integer.MIN_VALUE));
+        assertFalse(set.containsNegated(Integer.MIN_VALUE));
+        assertArrayEquals(new int[] {-1, 3, 5}, set.toArray());
+        assertEquals(new IntegerList(-1, 3, 5), set.toIntegerList());
+        assertEquals(new ExpandableIntegerList(-1, 3, 5), set.toExpandableIntegerList());
+        assertEquals(set, LiteralSet.of(new ExpandableIntegerList(5, 3, -1)));
+        assertEquals("[-1, 3, 5]", set.toString());
+    }
+
+    @Test
+    void setOperations() {
+        LiteralSet set1 = LiteralSet.of(1, -2, 3, -70);
+        LiteralSet set2 = LiteralSet.of(-1, -2, 70, 100);
+        assertTrue(set1.containsAny(set2));
+        assertTrue(set1.containsAnyNegated(set2));
+        assertFalse(set1.containsAll(set2));
+        assertTrue(set1.containsAll(LiteralSet.of(-2, 3)));
+
+        LiteralSet union = new LiteralSet(set1);
+        union.addAll(set2);
+        assertArrayEquals(new int[] {-70, -2, -1, 1, 3, 70, 100}, union.toArray());
+
+        LiteralSet intersection = new LiteralSet(set1);
+        intersection.retainAll(set2);
+        assertArrayEquals(new int[] {-2}, intersection.toArray());
+
+        LiteralSet difference = new LiteralSet(set1);
+        difference.removeAll(set2);
+        assertArrayEquals(new int[] {-70, 1, 3}, difference.toArray());
+
+        assertArrayEquals(new int[] {-3, -1, 2, 70}, set1.negate().toArray());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class ObjectIntMapTest {
+
+    @Test
+    void basicOperations() {
+        ObjectIntMap<String> map = new ObjectIntMap<>();
+        assertTrue(map.isEmpty());
+        assertTrue(map.put("a", 1));
+        assertTrue(map.put("b", 2));
+        assertFalse(map.put("a", 3));
+        assertEquals(3, map.get("a", -1));
+        assertEquals(-1, map.get("c", -1));
+        assertEquals(-1, map.get(null, -1));
+        assertTrue(map.containsKey("b"));
+        assertEquals("{a=3, b=2}", map.toString());
+        assertTrue(map.remove("a"));
+        assertFalse(map.remove("a"));
+        assertTrue(map.put("a", 4));
+        assertEquals(List.of("b", "a"), map.keys());
+        assertArrayEquals(new int[] {2, 4}, map.values());
+        map.clear();
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey("b"));
+    }
+
+    @Test
+    void randomOperations() {
+        Random random = new Random(3);
+        ObjectIntMap<Integer> map = new ObjectIntMap<>();
+        LinkedHashMap<Integer, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            Integer key = random.nextInt(2000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                assertEquals(!expected.containsKey(key), map.put(key, i));
+                expected.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.keySet()), map.keys());
+        assertArrayEquals(expected.values().stream().mapToInt(Integer::intValue).toArray(), map.values());
+        for (int key = 0; key < 2000; key++) {
+            assertEquals(expected.getOrDefault(key, -1), map.get(key, -1));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class RangeMapTest {
+
+    @Test
+    void addGetRemove() {
+        RangeMap<String> map = new RangeMap<>(List.of("a", "b", "c"));
+        assertEquals(3, map.size());
+        assertEquals(2, map.get("b").get());
+        assertTrue(map.get("d").isEmpty());
+        assertEquals("c", map.get(3).get());
+        assertEquals(4, map.add("d"));
+        assertThrows(IllegalArgumentException.class, () -> map.add("a"));
+        assertTrue(map.remove("b"));
+        assertFalse(map.remove("b"));
+        assertFalse(map.has("b"));
+        assertFalse(map.has(2));
+        map.setNewObject("c", "e");
+        assertEquals(3, map.get("e").get());
+        assertEquals(List.of(1, 4, 3), map.getIndices());
+        assertEquals(new IntegerList(1, 4, 3), map.getIndexList());
+        assertEquals("1 <-> a, 4 <-> d, 3 <-> e", map.print());
+        assertEquals(Arrays.asList(1, null), map.stream(List.of("a", "b")).collect(Collectors.toList()));
+        assertTrue(map.containsAllObjects(new RangeMap<>(List.of("e", "a"))));
+        assertFalse(map.containsAllObjects(new RangeMap<>(List.of("b"))));
+        map.normalize();
+        assertEquals(List.of("a", "e", "d"), map.getObjects());
+        assertEquals(3, map.get("d").get());
+        map.randomize(new Random(1));
+        for (String object : map.getObjects()) {
+            assertEquals(object, map.getObject(map.indexOf(object)));
+        }
+        map.clear();
+        assertEquals(-1, map.indexOf("a"));
+        assertTrue(map.get("a").isEmpty());
+    }
+
+    @Test
+    void remap() {
+        List<String> objects = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            objects.add("x" + i);
+        }
+        RangeMap<String> oldMap = new RangeMap<>(objects);
+        RangeMap<String> newMap = new RangeMap<>(objects.subList(500, 1000));
+        assertEquals(-1, oldMap.remap(-501, newMap, false));
+        assertEquals(0, oldMap.remap(0, newMap, false));
+        assertThrows(IllegalArgumentException.class, () -> oldMap.remap(1, newMap, false));
+        assertThrows(IllegalArgumentException.class, () -> oldMap.remap(1001, newMap, true));
+
+        Random random = new Random(1);
+        int[] oldIndices = random.ints(5000, 501, 1001).map(i -> random.nextBoolean() ? i : -i).toArray();
+        int[] newIndices = new int[oldIndices.length];
+        oldMap.remap(oldIndices, newIndices, newMap, false);
+        for (int i = 0; i < oldIndices.length; i++) {
+            assertEquals(oldIndices[i] < 0 ? oldIndices[i] + 500 : oldIndices[i] - 500, newIndices[i]);
+        }
+        assertEquals(new IntegerList(-1, 500), oldMap.remap(new IntegerList(-501, 1000), newMap, false));
+
+        int[] sparseIndices = random.ints(100, 501, 521).map(i -> random.nextBoolean() ? i : -i).toArray();
+        sparseIndices[0] = 0;
+        int[] sparseNewIndices = new int[sparseIndices.length];
+        oldMap.remap(sparseIndices, sparseNewIndices, newMap, false);
+        assertEquals(0, sparseNewIndices[0]);
+        for (int i = 1; i < sparseIndices.length; i++) {
+            assertEquals(sparseIndices[i] < 0 ? sparseIndices[i] + 500 : sparseIndices[i] - 500, sparseNewIndices[i]);
+        }
+
+        int[] remapping = oldMap.getRemapping(newMap, false);
+        assertEquals(1001, remapping.length);
+        assertEquals(0, remapping[1]);
+        assertEquals(1, remapping[501]);
+        remapping = oldMap.getRemapping(newMap, true);
+        assertEquals(501, remapping[1]);
+        assertEquals(1000, newMap.size());
+    }
+
+    @Test
+    void allocationFreeLookups() {
+        RangeMap<String> map = new RangeMap<>(List.of("a", "b", "c"));
+        map.remove("b");
+        assertEquals(3, map.indexOf("c"));
+        assertEquals(-1, map.indexOf("b"));
+        assertEquals("a", map.getObject(1));
+        assertNull(map.getObject(2));
+        assertNull(map.getObject(4));
+        assertNull(map.getObject(-1));
+        assertArrayEquals(new int[] {3, -1, 1}, map.indicesOf(List.of("c", "b", "a")));
+        assertEquals(List.of("c", "a"), map.getObjects(new IntegerList(-3, 2, 1, 5)));
+        assertEquals(Arrays.asList("c", null, "a", null), map.getObjects(new int[] {-3, 2, 1, 5}, true));
+        String[] objects = new String[3];
+        map.getObjects(new int[] {1, -2, -3}, objects);
+        assertArrayEquals(new String[] {"a", null, "c"}, objects);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class TrieTest {
+
+    private static String randomString(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(3)));
+        }
+        return sb.toString();
+    }
+
+    private static void assertTrieEquals(TreeSet<String> expected, Trie trie) {
+        assertEquals(expected.size(), trie.size());
+        assertEquals(new ArrayList<>(expected), trie.stream().collect(Collectors.toList()));
+        for (String prefix : List.of("", "a", "ab", "bca", "cc")) {
+            assertEquals(
+                    expected.stream().filter(e -> e.startsWith(prefix)).collect(Collectors.toList()),
+                    trie.stream(new StringBuilder(prefix)).collect(Collectors.toList()));
+            assertEquals(expected.stream().anyMatch(e -> e.startsWith(prefix)), trie.hasPrefix(prefix));
+        }
+    }
+
+    @Test
+    void addAndRemove() {
+        Trie trie = new Trie();
+        trie.add("abc");
+        trie.add("abd");
+        trie.add("b");
+        assertTrue(trie.has("abc"));
+        assertFalse(trie.has("ab"));
+        assertTrue(trie.hasPrefix("ab"));
+        assertFalse(trie.hasPrefix("abcd"));
+        assertFalse(trie.has(null));
+        trie.remove("abd");
+        assertFalse(trie.has("abd"));
+        assertTrue(trie.has("abc"));
+        assertTrue(trie.hasPrefix("abc"));
+        trie.remove("abc");
+        assertFalse(trie.hasPrefix("a"));
+        assertEquals(1, trie.size());
+
+        Random random = new Random(11);
+        TreeSet<String> expected = new TreeSet<>();
+        trie = new Trie();
+        for (int i = 0; i < 5000; i++) {
+            String element = randomString(random);
+            if (random.nextInt(3) == 0) {
+                expected.remove(element);
+                trie.remove(element);
+            } else {
+                expected.add(element);
+                trie.add(new StringBuilder(element));
+            }
+            assertEquals(expected.contains(element), trie.has(element));
+        }
+        assertTrieEquals(expected, trie);
+    }
+
+    @Test
+    void ofSorted() {
+        Random random = new Random(13);
+        TreeSet<String> expected = new TreeSet<>();
+        for (int i = 0; i < 200; i++) {
+            expected.add(randomString(random));
+        }
+        List<String> sorted = new ArrayList<>(expected);
+        sorted.add(sorted.get(sorted.size() - 1));
+        Trie trie = Trie.ofSorted(sorted);
+        assertTrieEquals(expected, trie);
+        for (String element : expected) {
+            assertTrue(trie.has(element));
+        }
+        trie.add("abcabc");
+        expected.add("abcabc");
+        assertTrieEquals(expected, trie);
+        assertThrows(IllegalArgumentException.class, () -> Trie.ofSorted(List.of("b", "a")));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.combination;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class CombinationSamplerTest {
+
+    @Test
+    void randomAccess() {
+        int[] items = IntStream.range(0, 12).map(i -> i * 3).toArray();
+        List<int[]> expected = CombinationStream.stream(items, 4)
+                .map(ISelection::createSelection)
+                .collect(Collectors.toList());
+        CombinationSampler sampler = new CombinationSampler(items, 4);
+        assertEquals(expected.size(), sampler.size());
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            assertArrayEquals(expected.get(i), sampler.get(i));
+            assertArrayEquals(expected.get(i), sampler.get(BigInteger.valueOf(i)));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> sampler.get(expected.size()));
+
+        int[][] itemSets = {IntStream.range(0, 5).toArray(), IntStream.range(10, 16).toArray()};
+        int[] ts = {2, 3};
+        List<int[]> multiExpected = CombinationStream.stream(itemSets, ts)
+                .map(ISelection::createSelection)
+                .collect(Collectors.toList());
+        CombinationSampler multiSampler = new CombinationSampler(itemSets, ts);
+        assertEquals(multiExpected.size(), multiSampler.size());
+        assertArrayEquals(multiExpected.get(77), multiSampler.get(77));
+        assertArrayEquals(multiExpected.get(3), multiSampler.get(3));
+    }
+
+    @Test
+    void uniformSampling() {
+        CombinationSampler sampler = new CombinationSampler(IntStream.range(0, 10).toArray(), 3);
+        Random random = new Random(42);
+        long[] indices = sampler.sampleIndices(120, false, random);
+        assertArrayEquals(IntStream.range(0, 120).asLongStream().toArray(), indices);
+        assertThrows(IllegalArgumentException.class, () -> sampler.sampleIndices(121, false, random));
+
+        long[] distinct = sampler.sampleIndices(50, false, random);
+        assertEquals(50, Arrays.stream(distinct).distinct().count());
+        for (int i = 1; i < distinct.length; i++) {
+            assertTrue(distinct[i - 1] < distinct[i]);
+        }
+
+        int[] counts = new int[120];
+        for (long index : sampler.sampleIndices(120000, true, random)) {
+            counts[(int) index]++;
+        }
+        assertTrue(Arrays.stream(counts).allMatch(count -> count > 800 && count < 1200));
+
+        int[][] combinations = sampler.sample(10, false, random);
+        assertEquals(10, Arrays.stream(combinations).map(Arrays::toString).distinct().count());
+    }
+
+    @Test
+    void stratifiedSampling() {
+        CombinationSampler sampler = new CombinationSampler(IntStream.range(0, 10).toArray(), 3);
+        Random random = new Random(7);
+        long[] indices = sampler.sampleStratifiedIndices(7, 3, false, random);
+        assertEquals(21, indices.length);
+        long start = 0;
+        for (int i = 0; i < 7; i++) {
+            long length = 120 / 7 + (i < 120 % 7 ? 1 : 0);
+            for (int j = 0; j < 3; j++) {
+                long index = indices[i * 3 + j];
+                assertTrue(index >= start && index < start + length);
+            }
+            start += length;
+        }
+        assertEquals(120, sampler.sampleStratifiedIndices(120, 1, false, random).length);
+        assertThrows(IllegalArgumentException.class, () -> sampler.sampleStratifiedIndices(121, 1, false, random));
+        assertThrows(IllegalArgumentException.class, () -> sampler.sampleStratifiedIndices(60, 3, false, random));
+        assertEquals(180, sampler.sampleStratifiedIndices(60, 3, true, random).length);
+    }
+
+    @Test
+    void bigIndexSpace() {
+        CombinationSampler sampler = new CombinationSampler(IntStream.range(0, 200).toArray(), 20);
+        assertFalse(sampler.hasLongSize());
+        assertThrows(ArithmeticException.class, sampler::size);
+        Random random = new Random(3);
+        BigInteger[] indices = sampler.sampleBigIndices(100, false, random);
+        assertEquals(100, Arrays.stream(indices).distinct().count());
+        for (BigInteger index : indices) {
+            assertTrue(index.signum() >= 0 && index.compareTo(sampler.bigSize()) < 0);
+        }
+        for (int[] combination : sampler.sample(20, true, random)) {
+            assertEquals(20, IntStream.of(combination).distinct().count());
+        }
+    }
+}
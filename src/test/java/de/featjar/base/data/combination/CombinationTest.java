@@ -0,0 +1,374 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.combination;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.base.data.BinomialCalculator;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+
+public class CombinationTest {
+
+    @Test
+    void bigIndexSpace() {
+        SingleCombination combination = new SingleCombination(200, 20);
+        BigInteger size = BinomialCalculator.computeBigBinomial(200, 20);
+        assertFalse(combination.hasLongIndex());
+        assertEquals(size.subtract(BigInteger.ONE), combination.bigMaxIndex());
+        assertThrows(ArithmeticException.class, combination::maxIndex);
+        assertEquals(Long.MAX_VALUE, combination.remaining());
+
+        BigInteger index = BigInteger.ONE.shiftLeft(70).add(BigInteger.valueOf(12345));
+        combination.advanceTo(index);
+        assertEquals(index, combination.bigIndex());
+        BinomialCalculator calculator = new BinomialCalculator(20, 200);
+        assertEquals(index, calculator.bigIndex(combination.selectionIndices()));
+        assertTrue(combination.advance());
+        assertEquals(index.add(BigInteger.ONE), combination.bigIndex());
+        assertEquals(index.add(BigInteger.ONE), calculator.bigIndex(combination.selectionIndices()));
+
+        combination.advanceTo(size.subtract(BigInteger.ONE));
+        assertArrayEquals(IntStream.range(180, 200).toArray(), combination.selectionIndices());
+        assertFalse(combination.advance());
+        assertThrows(IndexOutOfBoundsException.class, () -> combination.advanceTo(size));
+
+        combination.advanceTo(size.subtract(BigInteger.valueOf(5)));
+        assertEquals(4, combination.remaining());
+        combination.reset();
+        assertEquals(BigInteger.ZERO, combination.bigIndex());
+    }
+
+    @Test
+    void splitBigIndexSpace() {
+        SingleCombination combination = new SingleCombination(200, 20);
+        BigInteger maxIndex = combination.bigMaxIndex();
+        ICombination prefix = combination.split();
+        assertEquals(BigInteger.ZERO, prefix.bigIndex());
+        assertEquals(combination.bigIndex().subtract(BigInteger.ONE), prefix.bigMaxIndex());
+        assertEquals(maxIndex, combination.bigMaxIndex());
+        assertEquals(combination.bigIndex(), new BinomialCalculator(20, 200).bigIndex(combination.selectionIndices()));
+
+        List<String> expected = CombinationStream.stream(IntStream.range(0, 200).toArray(), 20)
+                .limit(100)
+                .map(s -> Arrays.toString(s.select()))
+                .collect(Collectors.toList());
+        SingleCombination small = new SingleCombination(200, 20);
+        small.setMaxIndex(BigInteger.valueOf(99));
+        Set<String> actual = new HashSet<>();
+        enumerate(small, actual);
+        assertEquals(new HashSet<>(expected), actual);
+    }
+
+    private static void enumerate(ICombination combination, Set<String> result) {
+        if (combination.remaining() > 4) {
+            enumerate(combination.split(), result);
+            enumerate(combination, result);
+        } else {
+            do {
+                assertTrue(result.add(Arrays.toString(combination.selectionIndices())));
+            } while (combination.advance());
+        }
+    }
+
+    @Test
+    void configurableSplitSize() {
+        int[] items = IntStream.range(0, 30).toArray();
+        IntLexicographicIterator<Void> iterator = new IntLexicographicIterator<>(items, 3, () -> null);
+        iterator.setMinimumSplitSize(5000);
+        assertEquals(null, iterator.trySplit());
+        iterator.setMinimumSplitSize(4000);
+        IntLexicographicIterator<Void> prefix = iterator.trySplit();
+        assertEquals(4000, prefix.getMinimumSplitSize());
+        assertEquals(4060 - 2, prefix.estimateSize() + iterator.estimateSize());
+        assertEquals(null, prefix.trySplit());
+        assertThrows(IllegalArgumentException.class, () -> iterator.setMinimumSplitSize(-1));
+
+        IntLexicographicIterator<Void> adaptive = new IntLexicographicIterator<>(items, 3, () -> null);
+        assertEquals(0, adaptive.getMinimumSplitSize());
+        assertTrue(adaptive.trySplit() != null);
+        assertEquals(CombinationStream.getAdaptiveMinimumSplitSize(4060 - 1), adaptive.getMinimumSplitSize());
+
+        Set<String> expected = CombinationStream.stream(items, 3)
+                .map(s -> Arrays.toString(s.select()))
+                .collect(Collectors.toSet());
+        for (long minimumSplitSize : new long[] {0, 1, 10, 1000, 100000}) {
+            List<String> intCombinations = CombinationStream.parallelStream(items, 3, () -> null, minimumSplitSize)
+                    .map(s -> Arrays.toString(s.select()))
+                    .collect(Collectors.toList());
+            assertEquals(expected.size(), intCombinations.size());
+            assertEquals(expected, new HashSet<>(intCombinations));
+            List<String> objectCombinations = CombinationStream.parallelStream(
+                            Arrays.stream(items).boxed().toArray(Integer[]::new), 3, () -> null, minimumSplitSize)
+                    .map(s -> Arrays.toString(s.select()))
+                    .collect(Collectors.toList());
+            assertEquals(expected.size(), objectCombinations.size());
+            assertEquals(expected, new HashSet<>(objectCombinations));
+        }
+    }
+
+    @Test
+    void blocks() {
+        int[] items = IntStream.range(100, 125).toArray();
+        List<String> expected = CombinationStream.stream(items, 4)
+                .map(s -> Arrays.toString(s.select()))
+                .collect(Collectors.toList());
+
+        IntLexicographicIterator<Void> iterator = new IntLexicographicIterator<>(items, 4, () -> null);
+        assertThrows(IllegalArgumentException.class, () -> iterator.nextBlock(new int[3]));
+        int[] block = new int[4 * 7 + 3];
+        List<String> actual = new ArrayList<>();
+        for (int count = iterator.nextBlock(block); count > 0; count = iterator.nextBlock(block)) {
+            for (int i = 0; i < count; i++) {
+                actual.add(Arrays.toString(Arrays.copyOfRange(block, i * 4, i * 4 + 4)));
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(0, iterator.nextBlock(block));
+        assertFalse(iterator.tryAdvance(s -> {}));
+
+        Set<String> parallel = ConcurrentHashMap.newKeySet();
+        AtomicLong total = new AtomicLong();
+        CombinationStream.forEachBlock(items, 4, 100, (b, count) -> {
+            for (int i = 0; i < count; i++) {
+                parallel.add(Arrays.toString(Arrays.copyOfRange(b, i * 4, i * 4 + 4)));
+            }
+            total.addAndGet(count);
+        });
+        assertEquals(expected.size(), total.get());
+        assertEquals(new HashSet<>(expected), parallel);
+
+        int[][] itemSets = {IntStream.range(0, 6).toArray(), IntStream.range(10, 15).toArray()};
+        AtomicLong multiTotal = new AtomicLong();
+        CombinationStream.forEachBlock(itemSets, new int[] {2, 3}, 16, (b, count) -> multiTotal.addAndGet(count));
+        assertEquals(15 * 10, multiTotal.get());
+    }
+
+    @Test
+    void revolvingDoor() {
+        for (int n = 0; n <= 9; n++) {
+            int[] items = IntStream.range(0, n).map(i -> 10 * i).toArray();
+            for (int t = 0; t <= n; t++) {
+                IntRevolvingDoorIterator iterator = new IntRevolvingDoorIterator(items, t);
+                Set<String> combinations = new HashSet<>();
+                Set<Integer> current = new HashSet<>();
+                Arrays.stream(iterator.select()).forEach(current::add);
+                assertEquals(-1, iterator.removedIndex());
+                do {
+                    int[] selection = iterator.select();
+                    assertEquals(current, Arrays.stream(selection).boxed().collect(Collectors.toSet()));
+                    for (int i = 1; i < t; i++) {
+                        assertTrue(selection[i - 1] < selection[i]);
+                    }
+                    assertTrue(combinations.add(Arrays.toString(selection)));
+                    assertEquals(combinations.size() - 1, iterator.index());
+                    if (!iterator.advance()) {
+                        break;
+                    }
+                    assertTrue(current.remove(iterator.removedItem()));
+                    assertTrue(current.add(iterator.addedItem()));
+                } while (true);
+                assertEquals(BinomialCalculator.computeBinomial(n, t), combinations.size());
+                assertEquals(iterator.size(), combinations.size());
+                assertFalse(iterator.advance());
+                iterator.reset();
+                assertArrayEquals(IntStream.range(0, t).toArray(), iterator.selectionIndices());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new IntRevolvingDoorIterator(new int[2], 3));
+    }
+
+    private static boolean hasNoNeighbors(int[] selection, int from) {
+        for (int i = from; i < selection.length; i++) {
+            for (int j = i + 1; j < selection.length; j++) {
+                if (Math.abs(selection[i] - selection[j]) == 1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Test
+    void prefixFilter() {
+        int[] items = IntStream.range(0, 20).toArray();
+        int t = 4;
+        List<String> expected = CombinationStream.stream(items, t)
+                .map(ISelection::select)
+                .filter(selection -> hasNoNeighbors(selection, 0))
+                .map(Arrays::toString)
+                .collect(Collectors.toList());
+
+        AtomicLong tests = new AtomicLong();
+        IPrefixFilter<int[]> filter = (selection, length) -> {
+            tests.incrementAndGet();
+            int first = selection.length - length;
+            for (int j = first + 1; j < selection.length; j++) {
+                if (Math.abs(selection[first] - selection[j]) == 1) {
+                    return false;
+                }
+            }
+            return true;
+        };
+        IntLexicographicIterator<Void> iterator = new IntLexicographicIterator<>(items, t, () -> null);
+        iterator.setPrefixFilter(filter);
+        List<String> actual = new ArrayList<>();
+        iterator.forEachRemaining(s -> actual.add(Arrays.toString(s.select())));
+        assertEquals(expected, actual);
+        assertTrue(tests.get() < BinomialCalculator.computeBinomial(20, 4));
+
+        IntLexicographicIterator<Void> blockIterator = new IntLexicographicIterator<>(items, t, () -> null);
+        blockIterator.setPrefixFilter(filter);
+        AtomicLong blockTotal = new AtomicLong();
+        CombinationStream.forEachBlock(blockIterator, 10, (block, count) -> {
+            for (int i = 0; i < count; i++) {
+                assertTrue(hasNoNeighbors(Arrays.copyOfRange(block, i * t, i * t + t), 0));
+            }
+            blockTotal.addAndGet(count);
+        });
+        assertEquals(expected.size(), blockTotal.get());
+
+        ObjectLexicographicIterator<Integer, Void> objectIterator = new ObjectLexicographicIterator<>(
+                Arrays.stream(items).boxed().toArray(Integer[]::new), t, () -> null);
+        objectIterator.setPrefixFilter((selection, length) ->
+                hasNoNeighbors(Arrays.stream(selection).mapToInt(i -> i).toArray(), selection.length - length));
+        objectIterator.setMinimumSplitSize(50);
+        List<String> objectCombinations = StreamSupport.stream(objectIterator, true)
+                .map(s -> Arrays.toString(s.select()))
+                .collect(Collectors.toList());
+        assertEquals(new HashSet<>(expected), new HashSet<>(objectCombinations));
+        assertEquals(expected.size(), objectCombinations.size());
+
+        int[][] itemSets = {IntStream.range(0, 8).toArray(), IntStream.range(8, 16).toArray()};
+        int[] ts = {2, 2};
+        List<String> multiExpected = CombinationStream.stream(itemSets, ts)
+                .map(ISelection::select)
+                .filter(selection -> hasNoNeighbors(selection, 0))
+                .map(Arrays::toString)
+                .collect(Collectors.toList());
+        IntLexicographicIterator<Void> multiIterator = new IntLexicographicIterator<>(itemSets, ts, () -> null);
+        multiIterator.setPrefixFilter((selection, length) -> hasNoNeighbors(selection, selection.length - length));
+        List<String> multiActual = new ArrayList<>();
+        multiIterator.forEachRemaining(s -> multiActual.add(Arrays.toString(s.select())));
+        assertEquals(multiExpected, multiActual);
+    }
+
+    @Test
+    void parallelBigIndexSpace() {
+        int[] items = IntStream.range(0, 200).toArray();
+        IPrefixFilter<int[]> filter = (selection, length) -> selection[selection.length - length] < 22;
+        IntLexicographicIterator<Void> iterator = new IntLexicographicIterator<>(items, 20, () -> null);
+        iterator.setPrefixFilter(filter);
+        List<String> sequential = StreamSupport.stream(iterator, false)
+                .map(s -> Arrays.toString(s.select()))
+                .collect(Collectors.toList());
+        assertEquals(BinomialCalculator.computeBinomial(22, 20), sequential.size());
+
+        IntLexicographicIterator<Void> parallelIterator = new IntLexicographicIterator<>(items, 20, () -> null);
+        parallelIterator.setPrefixFilter(filter);
+        List<String> parallel = StreamSupport.stream(parallelIterator, true)
+                .map(s -> Arrays.toString(s.select()))
+                .collect(Collectors.toList());
+        assertEquals(new HashSet<>(sequential), new HashSet<>(parallel));
+        assertEquals(sequential.size(), parallel.size());
+
+        ObjectLexicographicIterator<Integer, Void> objectIterator = new ObjectLexicographicIterator<>(
+                Arrays.stream(items).boxed().toArray(Integer[]::new), 20, () -> null);
+        objectIterator.setPrefixFilter((selection, length) -> selection[selection.length - length] < 22);
+        assertEquals(sequential.size(), StreamSupport.stream(objectIterator, true).count());
+    }
+
+    @Test
+    void skipBigIndexSpace() {
+        SingleCombination combination = new SingleCombination(200, 20);
+        BinomialCalculator calculator = new BinomialCalculator(20, 200);
+        combination.advanceTo(BigInteger.ONE.shiftLeft(80));
+        int[] before = combination.selectionIndices().clone();
+        assertTrue(combination.skip(3));
+        int[] after = combination.selectionIndices();
+        assertEquals(calculator.bigIndex(after), combination.bigIndex());
+        assertFalse(Arrays.equals(Arrays.copyOfRange(before, 17, 20), Arrays.copyOfRange(after, 17, 20)));
+        assertTrue(combination.skip(20));
+        assertEquals(calculator.bigIndex(combination.selectionIndices()), combination.bigIndex());
+        assertTrue(combination.skip(1));
+        assertEquals(calculator.bigIndex(combination.selectionIndices()), combination.bigIndex());
+        combination.advanceTo(combination.bigMaxIndex().subtract(BigInteger.valueOf(5)));
+        assertFalse(combination.skip(1));
+        assertEquals(combination.bigMaxIndex(), combination.bigIndex());
+    }
+
+    @Test
+    void multiCombination() {
+        int[][] items = {IntStream.range(0, 6).toArray(), IntStream.range(10, 15).toArray()};
+        int[] ts = {2, 3};
+        List<String> sequential = CombinationStream.stream(items, ts)
+                .map(s -> Arrays.toString(s.select()))
+                .collect(Collectors.toList());
+        assertEquals(15 * 10, sequential.size());
+        assertEquals(sequential.size(), new HashSet<>(sequential).size());
+        List<String> parallel = CombinationStream.parallelStream(items, ts, () -> null)
+                .map(s -> Arrays.toString(s.select()))
+                .collect(Collectors.toList());
+        assertEquals(new HashSet<>(sequential), new HashSet<>(parallel));
+        assertEquals(sequential.size(), parallel.size());
+
+        MultiCombination combination = new MultiCombination(new int[] {6, 5}, ts);
+        for (int i = 0; i < 150; i++) {
+            MultiCombination copy = new MultiCombination(new int[] {6, 5}, ts);
+            copy.advanceTo(i);
+            assertEquals(i, combination.index());
+            assertArrayEquals(combination.selectionIndices(), copy.selectionIndices(), String.valueOf(i));
+            combination.advance();
+        }
+    }
+
+    @Test
+    void bigMultiCombination() {
+        MultiCombination combination = new MultiCombination(new int[] {200, 200}, new int[] {10, 10});
+        assertFalse(combination.hasLongIndex());
+        BigInteger radix = BinomialCalculator.computeBigBinomial(200, 10);
+        assertEquals(radix.multiply(radix).subtract(BigInteger.ONE), combination.bigMaxIndex());
+        BigInteger index = radix.multiply(BigInteger.valueOf(7)).add(BigInteger.valueOf(3));
+        combination.advanceTo(index);
+        assertEquals(index, combination.bigIndex());
+        int[] selection = combination.selectionIndices();
+        BinomialCalculator calculator = new BinomialCalculator(10, 200);
+        assertArrayEquals(calculator.combination(3, new int[10]), Arrays.copyOfRange(selection, 0, 10));
+        assertArrayEquals(calculator.combination(7, new int[10]), Arrays.copyOfRange(selection, 10, 20));
+        assertTrue(combination.advance());
+        assertEquals(index.add(BigInteger.ONE), combination.bigIndex());
+        assertArrayEquals(calculator.combination(4, new int[10]), Arrays.copyOfRange(selection, 0, 10));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.identifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class IdentifierTest {
+
+    private static void assertUniqueInParallel(Supplier<IIdentifier> supplier) {
+        Set<IIdentifier> identifiers = IntStream.range(0, 100000)
+                .parallel()
+                .mapToObj(i -> supplier.get())
+                .collect(Collectors.toSet());
+        assertEquals(100000, identifiers.size());
+    }
+
+    @Test
+    void counterIdentifier() {
+        CounterIdentifier.Factory factory = new CounterIdentifier.Factory();
+        assertEquals(1, factory.get().getCounter());
+        assertEquals(2, factory.get().getCounter());
+        assertEquals(3, factory.reserve(10));
+        assertEquals(13, factory.get().getCounter());
+        assertEquals(factory.parse("13"), new CounterIdentifier(13, factory));
+        assertEquals(factory.parse("13").hashCode(), new CounterIdentifier(13, factory).hashCode());
+        assertNotEquals(factory.parse("13"), factory.parse("14"));
+        assertUniqueInParallel(factory::get);
+        assertUniqueInParallel(new CounterIdentifier.Factory(64)::get);
+    }
+}
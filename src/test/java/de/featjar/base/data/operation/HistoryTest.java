@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2026 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-base.
+ *
+ * base is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * base is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with base. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-base> for further information.
+ */
+package de.featjar.base.data.operation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class HistoryTest {
+
+    private static final List<Integer> values = new ArrayList<>();
+
+    private static class Counter implements ICheckpointable<List<Integer>> {
+        private int restoreCount;
+
+        @Override
+        public List<Integer> createCheckpoint() {
+            return new ArrayList<>(values);
+        }
+
+        @Override
+        public void restoreCheckpoint(List<Integer> checkpoint) {
+            restoreCount++;
+            values.clear();
+            values.addAll(checkpoint);
+        }
+
+        @Override
+        public long estimateSize(List<Integer> checkpoint) {
+            return 10;
+        }
+    }
+
+    private static class AddOperation implements ISpillableOperation {
+        private static final long serialVersionUID = 1L;
+        private final int value;
+        private transient int undoCount;
+
+        private AddOperation(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean undo() {
+            undoCount++;
+            return values.remove(values.size() - 1) == value;
+        }
+
+        @Override
+        public boolean redo() {
+            return values.add(value);
+        }
+
+        @Override
+        public String getName() {
+            return "add " + value;
+        }
+
+        @Override
+        public long estimateSize() {
+            return 100;
+        }
+    }
+
+    private static class SerializableOperation implements IOperation, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public boolean undo() {
+            return true;
+        }
+
+        @Override
+        public boolean redo() {
+            return true;
+        }
+
+        @Override
+        public String getName() {
+            return "serializable";
+        }
+    }
+
+    private static class PayloadOperation extends AddOperation {
+        private static final long serialVersionUID = 1L;
+        private final byte[] payload = new byte[1024];
+
+        private PayloadOperation(int value) {
+            super(value);
+        }
+
+        @Override
+        public long estimateSize() {
+            return payload.length;
+        }
+    }
+
+    private static List<Integer> range(int end) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < end; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    void undoAndRedo() {
+        values.clear();
+        History history = new History();
+        history.setLimit(5);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(history.apply(new AddOperation(i)));
+        }
+        assertEquals(5, history.getUndoCount());
+        assertTrue(history.undo(2));
+        assertEquals(range(6), values);
+        assertEquals(2, history.getRedoCount());
+        assertFalse(history.undo(4));
+        assertTrue(history.redo());
+        assertEquals(range(7), values);
+        assertTrue(history.apply(new AddOperation(100)));
+        assertEquals(0, history.getRedoCount());
+        assertFalse(history.redo());
+    }
+
+    @Test
+    void memoryLimit() {
+        values.clear();
+        History history = new History();
+        history.setMemoryLimit(350);
+        for (int i = 0; i < 10; i++) {
+            history.apply(new AddOperation(i));
+        }
+        assertEquals(3, history.getUndoCount());
+        assertTrue(history.getMemorySize() <= 350);
+        assertTrue(history.undo(3));
+        assertFalse(history.undo());
+        assertEquals(range(7), values);
+    }
+
+    @Test
+    void checkpoints() {
+        values.clear();
+        History history = new History();
+        Counter counter = new Counter();
+        history.setCheckpoints(counter, 10);
+        List<AddOperation> operations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            AddOperation operation = new AddOperation(i);
+            operations.add(operation);
+            history.apply(operation);
+        }
+        assertEquals(11, history.getCheckpointCount());
+        assertTrue(history.undo(32));
+        assertEquals(range(68), values);
+        assertEquals(1, counter.restoreCount);
+        int undoCount = operations.stream().mapToInt(o -> o.undoCount).sum();
+        assertEquals(2, undoCount);
+        assertTrue(history.redo(29));
+        assertEquals(range(97), values);
+        assertTrue(history.undo(97));
+        assertTrue(values.isEmpty());
+        assertTrue(history.apply(new AddOperation(5)));
+        assertEquals(1, history.getCheckpointCount());
+        assertEquals(List.of(5), values);
+    }
+
+    @Test
+    void spillToDisk() throws IOException {
+        values.clear();
+        Path directory = Files.createTempDirectory("history");
+        try (History history = new History()) {
+            history.setSpillDirectory(directory);
+            assertTrue(history.isSpilling());
+            history.setMemoryLimit(250);
+            for (int i = 0; i < 20; i++) {
+                history.apply(new AddOperation(i));
+            }
+            assertEquals(20, history.getUndoCount());
+            assertTrue(history.getMemorySize() <= 250);
+            assertTrue(history.undo(15));
+            assertEquals(range(5), values);
+            assertTrue(history.redo(15));
+            assertEquals(range(20), values);
+            assertTrue(history.getMemorySize() <= 250);
+            history.setLimit(100);
+            for (int i = 20; i < 5000; i++) {
+                history.apply(new PayloadOperation(i));
+                assertTrue(history.getSpillFileSize() < 300_000);
+            }
+            assertEquals(100, history.getUndoCount());
+            assertTrue(history.undo(100));
+            assertEquals(range(4900), values);
+            assertTrue(history.redo(80));
+            assertEquals(range(4980), values);
+            assertTrue(history.getMemorySize() <= 20 * 1024);
+            history.setSpillDirectory(null);
+            assertFalse(history.isSpilling());
+            assertEquals(100 * 1024, history.getMemorySize());
+            assertTrue(history.undo(80));
+            assertEquals(range(4900), values);
+        } finally {
+            try (var files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void spillOnlySpillableOperations() throws IOException {
+        Path directory = Files.createTempDirectory("history");
+        try {
+            History history = new History();
+            history.setSpillDirectory(directory);
+            history.setMemoryLimit(100);
+            for (int i = 0; i < 5; i++) {
+                history.apply(new SerializableOperation());
+            }
+            assertEquals(1, history.getUndoCount());
+            assertEquals(0, history.getSpillFileSize());
+            history.close();
+            assertFalse(history.isSpilling());
+            assertEquals(0, history.getUndoCount());
+        } finally {
+            try (var files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+            Files.delete(directory);
+        }
+    }
+}
@@ -20,6 +20,7 @@
  */
 package de.featjar.base.io;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -28,12 +29,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import de.featjar.base.data.Problem;
 import de.featjar.base.data.Result;
 import de.featjar.base.io.format.IFormat;
+import de.featjar.base.io.graphviz.GraphVizTreeFormat;
 import de.featjar.base.io.input.AInputMapper;
 import de.featjar.base.io.output.AOutputMapper;
+import de.featjar.base.io.text.DataTreeTextFormat;
+import de.featjar.base.tree.DataTree;
+import de.featjar.base.tree.structure.ITree;
 import de.featjar.base.tree.structure.LabeledTree;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -318,6 +324,85 @@ public class IOTest {
         }
     }
 
+    /**
+     * Serializes trees as {@link GraphVizTreeFormat} did before it streamed its output.
+     */
+    static class StringGraphVizTreeFormat<T extends ITree<T>> extends GraphVizTreeFormat<T> {
+        String serializeToString(T tree) {
+            List<? extends T> descendants = tree.getDescendantsAsLevelOrder();
+            return String.format(
+                    "digraph {%n%s%s%s%n%s%n%s%n}",
+                    globalOptions("graph"),
+                    globalOptions(
+                            "node",
+                            option("fontname", "Helvetica"),
+                            option("style", "filled"),
+                            option("fillcolor", "beige"),
+                            option("shape", "record")),
+                    globalOptions("edge", option("fontname", "Helvetica"), option("fontsize", "10")),
+                    descendants.stream()
+                            .skip(includeRoot ? 0 : 1)
+                            .distinct()
+                            .map(this::getNode)
+                            .collect(Collectors.joining("\n")),
+                    descendants.stream()
+                            .skip(includeRoot ? 0 : 1)
+                            .distinct()
+                            .map(this::getEdge)
+                            .filter(s -> !s.isEmpty())
+                            .collect(Collectors.joining("\n")));
+        }
+    }
+
+    private static LabeledTree<String> createTree() {
+        LabeledTree<String> shared = new LabeledTree<>("shared <leaf>");
+        LabeledTree<String> left = new LabeledTree<>("say \"hi\"");
+        left.addChild(shared);
+        left.addChild(new LabeledTree<>("\u00e4\u00f6\u00fc"));
+        LabeledTree<String> right = new LabeledTree<>("a -> b");
+        right.addChild(shared);
+        LabeledTree<String> root = new LabeledTree<>("root");
+        root.addChild(left);
+        root.addChild(right);
+        return root;
+    }
+
+    private static <T> byte[] save(T object, IFormat<T> format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        IO.save(object, outputStream, format);
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    public void graphVizTree() throws IOException {
+        LabeledTree<String> tree = createTree();
+        for (boolean includeRoot : new boolean[] {true, false}) {
+            StringGraphVizTreeFormat<LabeledTree<String>> format = new StringGraphVizTreeFormat<>();
+            format.setIncludeRoot(includeRoot);
+            String expected = format.serializeToString(tree);
+            assertTrue(expected.contains("\\\"hi\\\""));
+            assertTrue(expected.contains("&lt;leaf&gt;"));
+            assertEquals(expected, format.serialize(tree).get());
+            StringWriter writer = new StringWriter();
+            format.write(tree, writer);
+            assertEquals(expected, writer.toString());
+            assertArrayEquals(expected.getBytes(IO.DEFAULT_CHARSET), save(tree, format));
+        }
+    }
+
+    @Test
+    public void dataTreeText() throws IOException {
+        DataTree<?> tree = DataTree.of(
+                "root",
+                List.of(
+                        DataTree.ofValue("count", 42),
+                        DataTree.of("group", List.of(DataTree.ofValue("name", "\u00e4 \"b\"")))));
+        String expected = "root\n| count: 42\n| group\n| | name: \u00e4 \"b\"\n";
+        DataTreeTextFormat format = new DataTreeTextFormat();
+        assertEquals(expected, format.serialize(tree).get());
+        assertArrayEquals(expected.getBytes(IO.DEFAULT_CHARSET), save(tree, format));
+    }
+
     // TODO: absolute paths
 
 }
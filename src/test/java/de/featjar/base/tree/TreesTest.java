@@ -22,18 +22,26 @@ package de.featjar.base.tree;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.featjar.base.data.Result;
+import de.featjar.base.tree.structure.ARootedTree;
+import de.featjar.base.tree.structure.ITree;
 import de.featjar.base.tree.structure.LabeledTree;
 import de.featjar.base.tree.visitor.IInOrderTreeVisitor;
 import de.featjar.base.tree.visitor.ITreeVisitor;
+import de.featjar.base.tree.visitor.TreePrinter;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -401,4 +409,281 @@ public class TreesTest {
                 })
                 .isPresent());
     }
+
+    @Test
+    public void hashCodeTree() {
+        assertEquals(recursiveHashCode(root1), root1.hashCodeTree());
+        assertEquals(root1.hashCodeTree(), root2.hashCodeTree());
+        LabeledTree<String> b = root1.getChildren().get(1);
+        b.addChild(new LabeledTree<>("B4"));
+        assertEquals(recursiveHashCode(b), b.hashCodeTree());
+    }
+
+    @Test
+    public void sort() {
+        Trees.sort(root3);
+        assertTrue(Trees.equals(root1, root3));
+        Trees.sort(root1, Comparator.comparing(LabeledTree<String>::getLabel).reversed());
+        assertEquals("C", root1.getFirstChild().get().getLabel());
+        Trees.sortByKey(root1, LabeledTree::getLabel, Comparator.naturalOrder());
+        assertEquals(preOrderList, root1.getDescendantsAsPreOrder());
+    }
+
+    @Test
+    public void treeIndex() {
+        TreeIndex<LabeledTree<String>> index = TreeIndex.of(root1);
+        assertEquals(preOrderList, index.getNodes());
+        assertTrue(index.isValid());
+        LabeledTree<String> b = preOrderList.get(2);
+        LabeledTree<String> b1a = preOrderList.get(4);
+        LabeledTree<String> c1d = preOrderList.get(16);
+        assertEquals(2, index.indexOf(b));
+        assertEquals(-1, index.indexOf(emptyRoot));
+        assertEquals(0, index.getDepth(root1));
+        assertEquals(3, index.getDepth(b1a));
+        assertEquals(17, index.getSubtreeSize(root1));
+        assertEquals(9, index.getSubtreeSize(b));
+        assertEquals(1, index.getSubtreeSize(c1d));
+        assertEquals(preOrderList.subList(2, 11), index.getSubtree(b));
+        assertTrue(index.isAncestor(b, b1a));
+        assertTrue(index.isAncestor(root1, c1d));
+        assertFalse(index.isAncestor(b, c1d));
+        assertFalse(index.isAncestor(b, b));
+        assertEquals(2, index.getParentIndex(index.indexOf(preOrderList.get(3))));
+        b.addChild(new LabeledTree<>("B4"));
+        root1.hashCodeTree();
+        assertFalse(TreeIndex.of(root1).getNodes().equals(index.getNodes()));
+        root1.addChild(new LabeledTree<>("D"));
+        assertFalse(index.isValid());
+    }
+
+    @Test
+    public void treeIndexOfModifiedDescendant() {
+        LabeledTree<String> child = new LabeledTree<>("B");
+        LabeledTree<String> root = new LabeledTree<>("A");
+        root.addChild(child);
+        root.hashCodeTree();
+        TreeIndex<LabeledTree<String>> index = TreeIndex.of(root);
+        assertTrue(index.isValid());
+        child.addChild(new LabeledTree<>("C"));
+        assertTrue(root.isHashCodeTreeCached());
+        assertFalse(index.isValid());
+        child.removeChild(0);
+        assertTrue(index.isValid());
+        child.addChild(new LabeledTree<>("C"));
+        assertTrue(TreeIndex.of(root).isValid());
+    }
+
+    @Test
+    public void treeIndexOfMovedChild() {
+        LabeledTree<String> b = new LabeledTree<>("B");
+        LabeledTree<String> c = new LabeledTree<>("C");
+        LabeledTree<String> root = new LabeledTree<>("A");
+        root.addChild(b);
+        root.addChild(c);
+        TreeIndex<LabeledTree<String>> index = TreeIndex.of(root);
+        assertEquals(1, index.getDepth(c));
+        root.removeChild(c);
+        b.addChild(c);
+        assertEquals(index.getNodes(), TreeIndex.of(root).getNodes());
+        assertFalse(index.isValid());
+        index = TreeIndex.of(root);
+        assertTrue(index.isValid());
+        assertEquals(2, index.getDepth(c));
+        assertTrue(index.isAncestor(b, c));
+    }
+
+    @Test
+    public void treeIndexOfRootedTree() {
+        RootedNode c = new RootedNode(3);
+        RootedNode b = new RootedNode(2);
+        RootedNode root = new RootedNode(1, b, c);
+        TreeIndex<RootedNode> index = TreeIndex.of(root);
+        assertTrue(index.isValid());
+        int modificationCount = root.getModificationCount();
+        root.removeChild(c);
+        b.addChild(c);
+        assertTrue(root.getModificationCount() != modificationCount);
+        assertFalse(index.isValid());
+        b.removeChild(c);
+        root.addChild(c);
+        assertTrue(index.isValid());
+        c.addChild(new RootedNode(4));
+        assertFalse(index.isValid());
+        assertTrue(TreeIndex.of(root).isValid());
+    }
+
+    /**
+     * Prints a tree as {@link TreePrinter} did before it streamed its output.
+     */
+    private static void printToString(
+            LabeledTree<String> node, int depth, String indentation, Predicate<ITree<?>> filter, StringBuilder sb) {
+        if (filter == null || filter.test(node)) {
+            sb.append(indentation.repeat(depth));
+            sb.append(node.toString());
+            sb.append('\n');
+        }
+        for (LabeledTree<String> child : node.getChildren()) {
+            printToString(child, depth + 1, indentation, filter, sb);
+        }
+    }
+
+    @Test
+    public void printToAppendable() throws IOException {
+        StringBuilder expected = new StringBuilder();
+        printToString(root1, 0, "  ", null, expected);
+        assertEquals(expected.toString(), Trees.print(root1));
+        StringWriter writer = new StringWriter();
+        Trees.print(root1, writer);
+        assertEquals(expected.toString(), writer.toString());
+
+        Predicate<ITree<?>> filter = node -> !node.toString().contains("1");
+        expected.setLength(0);
+        printToString(root1, 0, "-> ", filter, expected);
+        TreePrinter printer = new TreePrinter().setIndentation("-> ").setFilter(filter);
+        assertEquals(expected.toString(), Trees.traverse(root1, printer).get());
+        writer = new StringWriter();
+        printer = new TreePrinter(writer).setIndentation("-> ").setFilter(filter);
+        assertEquals("", Trees.traverse(root1, printer).get());
+        assertEquals(expected.toString(), writer.toString());
+    }
+
+    private static class RootedNode extends ARootedTree<RootedNode> {
+        private final int label;
+
+        private RootedNode(int label, RootedNode... children) {
+            this.label = label;
+            for (RootedNode child : children) {
+                addChild(child);
+            }
+        }
+
+        @Override
+        public RootedNode cloneNode() {
+            return new RootedNode(label);
+        }
+
+        @Override
+        public boolean equalsNode(RootedNode other) {
+            return label == other.label;
+        }
+
+        @Override
+        public int hashCodeNode() {
+            return label;
+        }
+    }
+
+    @Test
+    public void rootedTreeInvalidatesAncestors() {
+        RootedNode grandchild = new RootedNode(3);
+        RootedNode root = new RootedNode(1, new RootedNode(2, grandchild));
+        RootedNode unmodifiedRoot = new RootedNode(1, new RootedNode(2, new RootedNode(3)));
+        assertEquals(unmodifiedRoot.hashCodeTree(), root.hashCodeTree());
+        assertTrue(root.isHashCodeTreeCached());
+        assertEquals(unmodifiedRoot, root);
+
+        grandchild.addChild(new RootedNode(4));
+        assertFalse(root.isHashCodeTreeCached());
+        RootedNode modifiedRoot = new RootedNode(1, new RootedNode(2, new RootedNode(3, new RootedNode(4))));
+        assertEquals(modifiedRoot.hashCodeTree(), root.hashCodeTree());
+        assertEquals(modifiedRoot, root);
+        assertNotEquals(unmodifiedRoot, root);
+        assertFalse(Trees.equals(unmodifiedRoot, root));
+    }
+
+    @Test
+    public void deepTrees() {
+        LabeledTree<String> deepRoot1 = createChain(100_000, "A");
+        LabeledTree<String> deepRoot2 = createChain(100_000, "A");
+        LabeledTree<String> deepRoot3 = createChain(100_000, "B");
+        assertTrue(Trees.equals(deepRoot1, deepRoot2));
+        assertFalse(Trees.equals(deepRoot1, deepRoot3));
+        assertEquals(deepRoot1.hashCodeTree(), deepRoot2.hashCodeTree());
+        assertTrue(deepRoot1.isHashCodeTreeCached());
+        assertTrue(deepRoot1.getFirstChild().get().isHashCodeTreeCached());
+        assertTrue(Trees.equals(deepRoot1, deepRoot2));
+    }
+
+    private static class PlainNode implements ITree<PlainNode> {
+        private final int label;
+        private final List<PlainNode> children = new ArrayList<>();
+
+        private PlainNode(int label) {
+            this.label = label;
+        }
+
+        @Override
+        public List<? extends PlainNode> getChildren() {
+            return children;
+        }
+
+        @Override
+        public void setChildren(List<? extends PlainNode> children) {
+            this.children.clear();
+            this.children.addAll(children);
+        }
+
+        @Override
+        public PlainNode cloneNode() {
+            return new PlainNode(label);
+        }
+
+        @Override
+        public boolean equalsNode(PlainNode other) {
+            return label == other.label;
+        }
+
+        @Override
+        public int hashCodeNode() {
+            return label;
+        }
+    }
+
+    @Test
+    public void deepTreesWithoutCaching() {
+        PlainNode leaf = new PlainNode(100_000);
+        PlainNode node = leaf;
+        int expected = leaf.hashCodeNode();
+        for (int i = 0; i < 100_000; i++) {
+            PlainNode parent = new PlainNode(i);
+            parent.addChild(node);
+            node = parent;
+            expected = 38 * parent.hashCodeNode() + expected;
+        }
+        assertEquals(expected, node.hashCodeTree());
+        assertFalse(node.isHashCodeTreeCached());
+    }
+
+    @Test
+    public void equalsIgnoresStaleHashCodes() {
+        LabeledTree<Integer> child = new LabeledTree<>(2);
+        LabeledTree<Integer> x = new LabeledTree<>(1);
+        x.addChild(child);
+        x.hashCode();
+        child.addChild(new LabeledTree<>(5));
+        LabeledTree<Integer> y = new LabeledTree<>(1);
+        LabeledTree<Integer> yChild = new LabeledTree<>(2);
+        y.addChild(yChild);
+        yChild.addChild(new LabeledTree<>(5));
+        y.hashCode();
+        assertTrue(Trees.equals(x, y));
+        assertTrue(x.equals(y));
+    }
+
+    private static int recursiveHashCode(LabeledTree<String> node) {
+        int hashCode = node.hashCodeNode();
+        for (LabeledTree<String> child : node.getChildren()) {
+            hashCode += (hashCode * 37) + recursiveHashCode(child);
+        }
+        return hashCode;
+    }
+
+    private static LabeledTree<String> createChain(int depth, String leafLabel) {
+        LabeledTree<String> node = new LabeledTree<>(leafLabel);
+        for (int i = 0; i < depth; i++) {
+            node = LabeledTree.of(String.valueOf(i), node);
+        }
+        return node;
+    }
 }